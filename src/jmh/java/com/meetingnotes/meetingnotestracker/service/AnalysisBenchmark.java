@@ -0,0 +1,75 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the full analysis pipeline and of each stage on its own, across transcript sizes.
+ * Run with {@code mvn -Pbench verify}; pass {@code -Djmh.args="..."} to override JMH options.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalysisBenchmark {
+
+    /** Transcript size in characters: 1 KB up to 5 MB. */
+    @Param({"1024", "16384", "262144", "1048576", "5242880"})
+    public int size;
+
+    private AnalysisService service;
+    private AnalysisService sequential;
+    private String transcript;
+    private List<String> sentences;
+    private int[][] hits;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        service = new AnalysisService();
+        sequential = new AnalysisService(List.of(), List.of(), List.of(), -1, 1);
+        transcript = TranscriptGenerator.generate(size, 42L);
+        sentences = service.splitSentences(transcript.trim());
+        hits = service.scanLexicon(sentences);
+    }
+
+    @Benchmark
+    public Map<String, Object> analyze() {
+        return service.analyze(transcript);
+    }
+
+    /** Forces the single-threaded path, for comparison with the automatic parallel mode above. */
+    @Benchmark
+    public Map<String, Object> analyzeSequential() {
+        return sequential.analyze(transcript);
+    }
+
+    @Benchmark
+    public List<String> splitSentences() {
+        return service.splitSentences(transcript.trim());
+    }
+
+    @Benchmark
+    public int[][] scanLexicon() {
+        return service.scanLexicon(sentences);
+    }
+
+    @Benchmark
+    public List<String> pickSummary() {
+        return service.pickSummary(sentences, hits, 3);
+    }
+
+    @Benchmark
+    public List<String> extractDecisions() {
+        return service.extractDecisions(sentences, hits);
+    }
+
+    @Benchmark
+    public List<Map<String, String>> extractActions() {
+        return service.extractActions(sentences, hits);
+    }
+}
@@ -0,0 +1,58 @@
+package com.meetingnotes.meetingnotestracker;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** Latencies of one operation, one instance per worker thread; merged once the run is over. */
+final class LatencySamples {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private long errors;
+
+    void record(long latencyNanos, boolean ok) {
+        if (size == nanos.length) nanos = Arrays.copyOf(nanos, size * 2);
+        nanos[size++] = latencyNanos;
+        if (!ok) errors++;
+    }
+
+    void addAll(LatencySamples other) {
+        if (size + other.size > nanos.length) nanos = Arrays.copyOf(nanos, Math.max(size + other.size, size * 2));
+        System.arraycopy(other.nanos, 0, nanos, size, other.size);
+        size += other.size;
+        errors += other.errors;
+    }
+
+    long count() { return size; }
+
+    long errors() { return errors; }
+
+    /** Nearest-rank percentile in milliseconds; sorts in place, so call after the run. */
+    double percentileMillis(double p) {
+        if (size == 0) return 0;
+        Arrays.sort(nanos, 0, size);
+        int rank = (int) Math.ceil(p / 100.0 * size);
+        return millis(nanos[Math.min(size, Math.max(1, rank)) - 1]);
+    }
+
+    Map<String, Object> toReport(double seconds) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("requests", size);
+        out.put("errors", errors);
+        out.put("throughputPerSec", round(size / seconds));
+        out.put("p50Ms", percentileMillis(50));
+        out.put("p95Ms", percentileMillis(95));
+        out.put("p99Ms", percentileMillis(99));
+        out.put("maxMs", size == 0 ? 0 : millis(nanos[size - 1]));
+        return out;
+    }
+
+    private static double millis(long nanos) {
+        return round(nanos / 1e6);
+    }
+
+    static double round(double v) {
+        return Math.round(v * 100) / 100.0;
+    }
+}
@@ -0,0 +1,386 @@
+package com.meetingnotes.meetingnotestracker;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingnotes.meetingnotestracker.service.TranscriptGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Mixed HTTP workload against the whole application on a random port, backed by a throwaway H2 file database.
+ * Run with {@code mvn -Ploadtest test}; every knob below is a {@code -Dloadtest.*} system property.
+ * <p>
+ * Workers run a closed loop (one request in flight each) through a warm-up and then a measured window.
+ * p50/p95/p99 per operation, throughput and the heap high-water mark are written to
+ * {@code target/loadtest-report.json}, and the test fails when any threshold is exceeded. Latency thresholds
+ * can be set per operation, e.g. {@code -Dloadtest.max-p99-ms.search=200}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class MeetingApiLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(MeetingApiLoadTest.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 4);
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+    private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 20);
+    private static final int MEETINGS = Integer.getInteger("loadtest.meetings", 1000);
+    private static final int TRANSCRIPT_CHARS = Integer.getInteger("loadtest.transcript-chars", 4000);
+    private static final String MIX = System.getProperty("loadtest.mix", "analyze=20,create=15,search=30,get=30,delete=5");
+    private static final Path REPORT = Paths.get(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+
+    private static final String[] NAMES = {"Alice","Bob","Nelson","Priya","Omar","Chen","Maria","Jonas","Fatima","Diego"};
+    private static final String[] QUERIES = {"migration", "dashboard", "deployment pipeline", "\"api spec\"", "Priya",
+            "onboarding docs", "schema change", "release plan", "customer demo", "nonexistentterm"};
+
+    enum Op { ANALYZE, CREATE, SEARCH, GET, DELETE }
+
+    private record Call(Op op, HttpRequest request) {}
+
+    @TempDir
+    static Path dataDir;
+
+    @DynamicPropertySource
+    static void throwawayDatabase(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> "jdbc:h2:file:" + dataDir.resolve("meetings").toAbsolutePath());
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "create");
+        registry.add("upload.spool-dir", () -> dataDir.resolve("uploads").toString());
+        // every worker shares one address; measure the pipeline rather than the per-client quota
+        registry.add("analysis.admission.client-rate", () -> "0");
+    }
+
+    @LocalServerPort
+    int port;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ConcurrentLinkedQueue<Long> created = new ConcurrentLinkedQueue<>();
+    private long[] seeded;
+    private Op[] mix;
+
+    @Test
+    void mixedWorkloadStaysWithinThresholds() throws Exception {
+        mix = parseMix(MIX);
+        long seedStart = System.nanoTime();
+        seeded = seed();
+        double seedSeconds = (System.nanoTime() - seedStart) / 1e9;
+        log.info("Seeded {} meetings in {}s; running {} workers for {}s (+{}s warm-up)",
+                seeded.length, LatencySamples.round(seedSeconds), CONCURRENCY, DURATION_SECONDS, WARMUP_SECONDS);
+
+        HeapSampler heap = new HeapSampler();
+        long measureFrom = System.nanoTime() + WARMUP_SECONDS * 1_000_000_000L;
+        long measureUntil = measureFrom + DURATION_SECONDS * 1_000_000_000L;
+        ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+        Map<Op, LatencySamples> merged = new EnumMap<>(Op.class);
+        for (Op op : Op.values()) merged.put(op, new LatencySamples());
+        try {
+            List<Future<Map<Op, LatencySamples>>> results = new ArrayList<>();
+            for (int w = 0; w < CONCURRENCY; w++) {
+                int worker = w;
+                results.add(workers.submit(() -> work(worker, measureFrom, measureUntil, heap)));
+            }
+            for (Future<Map<Op, LatencySamples>> f : results) f.get().forEach((op, s) -> merged.get(op).addAll(s));
+        } finally {
+            workers.shutdownNow();
+            heap.stop();
+        }
+
+        Map<String, Object> report = report(merged, heap, seedSeconds);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> thresholds = (List<Map<String, Object>>) report.get("thresholds");
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        mapper.writerWithDefaultPrettyPrinter().writeValue(REPORT.toFile(), report);
+        log.info("Load test report written to {}", REPORT.toAbsolutePath());
+
+        List<String> failed = thresholds.stream().filter(t -> !(Boolean) t.get("passed"))
+                .map(t -> t.get("metric") + " = " + t.get("actual") + " (limit " + t.get("limit") + ")").toList();
+        assertTrue(failed.isEmpty(), "Thresholds exceeded:\n" + String.join("\n", failed));
+    }
+
+    private Map<Op, LatencySamples> work(int worker, long measureFrom, long measureUntil, HeapSampler heap) {
+        Random r = new Random(worker);
+        Map<Op, LatencySamples> samples = new EnumMap<>(Op.class);
+        for (Op op : Op.values()) samples.put(op, new LatencySamples());
+        boolean measuring = false;
+        for (long n = 0; ; n++) {
+            Call call = next(r, worker, n);
+            long start = System.nanoTime();
+            if (start >= measureUntil) return samples;
+            if (!measuring && start >= measureFrom) {
+                measuring = true;
+                heap.startMeasuring();
+            }
+            HttpResponse<String> res;
+            try {
+                res = http.send(call.request(), HttpResponse.BodyHandlers.ofString());
+            } catch (IOException e) {
+                res = null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return samples;
+            }
+            long latency = System.nanoTime() - start;
+            boolean ok = res != null && res.statusCode() / 100 == 2;
+            if (measuring) samples.get(call.op()).record(latency, ok);
+            if (ok && call.op() == Op.CREATE) created.add(id(res.body()));
+        }
+    }
+
+    private Call next(Random r, int worker, long n) {
+        Op op = mix[r.nextInt(mix.length)];
+        if (op == Op.DELETE) {
+            // only meetings made by this run are deleted, so GETs of seeded ids never race a delete
+            Long id = created.poll();
+            if (id != null) return new Call(op, request("/meetings/" + id).DELETE().build());
+            op = Op.CREATE;
+        }
+        return switch (op) {
+            case ANALYZE -> new Call(op, post("/analyze",
+                    Map.of("transcript", transcript(worker * 1_000_000_000L + n))));
+            case CREATE -> new Call(op, post("/meetings", meeting("Load test " + worker + "-" + n, r,
+                    worker * 1_000_000_000L + n)));
+            case SEARCH -> new Call(op, request("/meetings?q="
+                    + URLEncoder.encode(QUERIES[r.nextInt(QUERIES.length)], StandardCharsets.UTF_8)).GET().build());
+            case GET -> new Call(op, request("/meetings/" + seeded[r.nextInt(seeded.length)]).GET().build());
+            case DELETE -> throw new IllegalStateException();
+        };
+    }
+
+    /** Bulk-loads the data volume through /meetings/import (analysis included) and collects the new ids. */
+    private long[] seed() throws IOException, InterruptedException {
+        Path ndjson = dataDir.resolve("seed.ndjson");
+        Random r = new Random(7);
+        try (BufferedWriter out = Files.newBufferedWriter(ndjson)) {
+            for (int i = 0; i < MEETINGS; i++) {
+                out.write(mapper.writeValueAsString(meeting("Seeded meeting " + i, r, -1 - i)));
+                out.write('\n');
+            }
+        }
+        HttpResponse<String> imported = http.send(request("/meetings/import").timeout(Duration.ofHours(1))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofFile(ndjson)).build(), HttpResponse.BodyHandlers.ofString());
+        assertTrue(imported.statusCode() == 200, "Seeding failed: " + imported.body());
+
+        List<Long> ids = new ArrayList<>();
+        String after = "";
+        do {
+            JsonNode page = mapper.readTree(http.send(request("/meetings?limit=500" + after).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()).body());
+            page.get("items").forEach(m -> ids.add(m.get("id").asLong()));
+            after = page.get("nextCursor").isNull() ? null : "&after=" + page.get("nextCursor").asLong();
+        } while (after != null);
+        assertTrue(ids.size() >= MEETINGS, "Expected " + MEETINGS + " seeded meetings, found " + ids.size());
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private Map<String, Object> meeting(String title, Random r, long seed) {
+        Map<String, Object> m = new LinkedHashMap<>();
+        m.put("title", title);
+        m.put("attendees", NAMES[r.nextInt(NAMES.length)] + ", " + NAMES[r.nextInt(NAMES.length)] + ", "
+                + NAMES[r.nextInt(NAMES.length)]);
+        m.put("occurredAt", Instant.parse("2025-01-06T09:00:00Z").plus(Duration.ofHours(r.nextInt(24 * 365))).toString());
+        m.put("transcript", transcript(seed));
+        return m;
+    }
+
+    private static String transcript(long seed) {
+        return TranscriptGenerator.generate(TRANSCRIPT_CHARS, seed); // distinct per call, so the analysis cache misses
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private HttpRequest post(String path, Map<String, Object> body) {
+        try {
+            return request(path).header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body))).build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long id(String body) {
+        try {
+            return mapper.readTree(body).get("id").asLong();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** "analyze=20,get=30" -> a lookup table where each operation appears as often as its weight. */
+    private static Op[] parseMix(String spec) {
+        List<Op> table = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] kv = part.trim().split("=");
+            Op op = Op.valueOf(kv[0].trim().toUpperCase(Locale.ROOT));
+            for (int i = Integer.parseInt(kv[1].trim()); i > 0; i--) table.add(op);
+        }
+        if (table.isEmpty()) throw new IllegalArgumentException("Empty loadtest.mix: " + spec);
+        return table.toArray(Op[]::new);
+    }
+
+    private Map<String, Object> report(Map<Op, LatencySamples> merged, HeapSampler heap, double seedSeconds) {
+        LatencySamples all = new LatencySamples();
+        merged.values().forEach(all::addAll);
+        Map<String, Object> ops = new LinkedHashMap<>();
+        merged.forEach((op, s) -> { if (s.count() > 0) ops.put(key(op), s.toReport(DURATION_SECONDS)); });
+
+        List<Map<String, Object>> thresholds = new ArrayList<>();
+        merged.forEach((op, s) -> {
+            if (s.count() == 0) return;
+            threshold(thresholds, key(op) + ".p95Ms", limit("loadtest.max-p95-ms", op, "2000"), s.percentileMillis(95), true);
+            threshold(thresholds, key(op) + ".p99Ms", limit("loadtest.max-p99-ms", op, "4000"), s.percentileMillis(99), true);
+        });
+        double errorRate = all.count() == 0 ? 1 : (double) all.errors() / all.count();
+        threshold(thresholds, "errorRate", System.getProperty("loadtest.max-error-rate", "0"), errorRate, true);
+        threshold(thresholds, "throughputPerSec", System.getProperty("loadtest.min-throughput", "10"),
+                all.count() / (double) DURATION_SECONDS, false);
+        threshold(thresholds, "heapMaxUsedMb", System.getProperty("loadtest.max-heap-mb", "768"), heap.maxUsedMb(), true);
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("concurrency", CONCURRENCY);
+        config.put("warmupSeconds", WARMUP_SECONDS);
+        config.put("durationSeconds", DURATION_SECONDS);
+        config.put("meetings", MEETINGS);
+        config.put("transcriptChars", TRANSCRIPT_CHARS);
+        config.put("mix", MIX);
+        config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        config.put("heapLimitMb", Runtime.getRuntime().maxMemory() >> 20);
+
+        Map<String, Object> totals = all.toReport(DURATION_SECONDS);
+        totals.put("errorRate", LatencySamples.round(errorRate * 10000) / 10000);
+        totals.put("seedSeconds", LatencySamples.round(seedSeconds));
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("timestamp", Instant.now().toString());
+        out.put("config", config);
+        out.put("totals", totals);
+        out.put("operations", ops);
+        out.put("heap", heap.toReport());
+        out.put("thresholds", thresholds);
+        out.put("passed", thresholds.stream().allMatch(t -> (Boolean) t.get("passed")));
+        return out;
+    }
+
+    private static String key(Op op) {
+        return op.name().toLowerCase(Locale.ROOT);
+    }
+
+    /** Per-operation override (loadtest.max-p99-ms.search), else the global value. */
+    private static String limit(String property, Op op, String fallback) {
+        return System.getProperty(property + "." + key(op), System.getProperty(property, fallback));
+    }
+
+    private static void threshold(List<Map<String, Object>> out, String metric, String limit, double actual, boolean isMax) {
+        double l = Double.parseDouble(limit);
+        Map<String, Object> t = new LinkedHashMap<>();
+        t.put("metric", metric);
+        t.put("limit", l);
+        t.put("kind", isMax ? "max" : "min");
+        t.put("actual", LatencySamples.round(actual));
+        t.put("passed", isMax ? actual <= l : actual >= l);
+        out.add(t);
+    }
+
+    /** Heap high-water mark and GC work during the measured window, sampled every 10 ms. */
+    private static final class HeapSampler {
+        private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        private final AtomicLong maxUsed = new AtomicLong();
+        private final AtomicBoolean measuring = new AtomicBoolean();
+        private final Thread thread;
+        private volatile boolean running = true;
+        private long gcCountAtStart, gcMillisAtStart, gcCount, gcMillis;
+
+        HeapSampler() {
+            thread = new Thread(() -> {
+                while (running) {
+                    if (measuring.get()) maxUsed.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }, "loadtest-heap-sampler");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        void startMeasuring() {
+            if (measuring.compareAndSet(false, true)) {
+                synchronized (this) {
+                    gcCountAtStart = gcTotals()[0];
+                    gcMillisAtStart = gcTotals()[1];
+                }
+            }
+        }
+
+        synchronized void stop() throws InterruptedException {
+            running = false;
+            thread.join();
+            long[] gc = gcTotals();
+            gcCount = gc[0] - gcCountAtStart;
+            gcMillis = gc[1] - gcMillisAtStart;
+        }
+
+        double maxUsedMb() {
+            return maxUsed.get() / (1024.0 * 1024.0);
+        }
+
+        Map<String, Object> toReport() {
+            Map<String, Object> out = new LinkedHashMap<>();
+            out.put("maxUsedMb", LatencySamples.round(maxUsedMb()));
+            out.put("committedMb", LatencySamples.round(memory.getHeapMemoryUsage().getCommitted() / (1024.0 * 1024.0)));
+            out.put("gcCount", gcCount);
+            out.put("gcMillis", gcMillis);
+            return out;
+        }
+
+        private static long[] gcTotals() {
+            long count = 0, millis = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                count += Math.max(0, gc.getCollectionCount());
+                millis += Math.max(0, gc.getCollectionTime());
+            }
+            return new long[]{count, millis};
+        }
+    }
+}
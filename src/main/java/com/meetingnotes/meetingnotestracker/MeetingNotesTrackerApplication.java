@@ -3,11 +3,19 @@ package com.meetingnotes.meetingnotestracker;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
+import java.util.Map;
+
 @SpringBootApplication
 public class MeetingNotesTrackerApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(MeetingNotesTrackerApplication.class, args);
+        SpringApplication app = new SpringApplication(MeetingNotesTrackerApplication.class);
+        // Defaults only; application.properties and command-line arguments override them
+        app.setDefaultProperties(Map.of(
+                "management.endpoints.web.exposure.include", "health,metrics,analysis",
+                // POST /analyze and /meetings answer asynchronously; the container's 30 s would cut off large transcripts
+                "spring.mvc.async.request-timeout", "10m"));
+        app.run(args);
     }
 
 }
@@ -0,0 +1,27 @@
+package com.meetingnotes.meetingnotestracker.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Set;
+
+/** p50/p99 for the timers Spring Boot registers itself: HTTP endpoints and repository calls. */
+@Configuration
+public class MetricsConfig {
+
+    private static final Set<String> WITH_PERCENTILES = Set.of("http.server.requests", "spring.data.repository.invocations");
+
+    @Bean
+    MeterFilter percentiles() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!WITH_PERCENTILES.contains(id.getName())) return config;
+                return DistributionStatisticConfig.builder().percentiles(0.5, 0.99).build().merge(config);
+            }
+        };
+    }
+}
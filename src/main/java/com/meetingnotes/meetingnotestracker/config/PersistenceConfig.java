@@ -0,0 +1,23 @@
+package com.meetingnotes.meetingnotestracker.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC batching defaults: with sequence ids, the inserts for a meeting, its action items and its
+ * postings go out as a few batched statements instead of one round trip per row.
+ * Values set in application.properties win.
+ */
+@Configuration
+public class PersistenceConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer jdbcBatching() {
+        return props -> {
+            props.putIfAbsent("hibernate.jdbc.batch_size", "50");
+            props.putIfAbsent("hibernate.order_inserts", "true");
+            props.putIfAbsent("hibernate.order_updates", "true");
+        };
+    }
+}
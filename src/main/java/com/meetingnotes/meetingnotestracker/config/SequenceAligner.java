@@ -0,0 +1,50 @@
+package com.meetingnotes.meetingnotestracker.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Databases created while ids were IDENTITY columns get fresh sequences starting at 1; move each
+ * sequence past the current max id before anything is inserted. No-op once aligned.
+ */
+@Component
+public class SequenceAligner {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceAligner.class);
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "MEETING_SEQ", "meeting",
+            "ACTION_ITEM_SEQ", "action_item",
+            "SEARCH_POSTING_SEQ", "search_posting");
+
+    private final JdbcTemplate jdbc;
+
+    // The EntityManagerFactory dependency makes this run after the schema update created the sequences
+    public SequenceAligner(JdbcTemplate jdbc, EntityManagerFactory emf) {
+        this.jdbc = jdbc;
+    }
+
+    @PostConstruct
+    void align() {
+        SEQUENCES.forEach((sequence, table) -> {
+            List<long[]> seq = jdbc.query(
+                    "SELECT BASE_VALUE, INCREMENT FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+                    (rs, i) -> new long[]{rs.getLong(1), rs.getLong(2)}, sequence);
+            if (seq.isEmpty()) return;
+            Long maxId = jdbc.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+            if (maxId == null) return;
+            // The pooled optimizer hands out (value - increment, value], so the next value must clear max + increment
+            long floor = maxId + seq.get(0)[1];
+            if (seq.get(0)[0] < floor) {
+                jdbc.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + floor);
+                log.info("Moved {} to {} (max {}.id = {})", sequence, floor, table, maxId);
+            }
+        });
+    }
+}
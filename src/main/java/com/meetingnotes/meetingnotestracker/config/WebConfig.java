@@ -0,0 +1,22 @@
+package com.meetingnotes.meetingnotestracker.config;
+
+import com.meetingnotes.meetingnotestracker.controller.AdmissionInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/** Admission control in front of the endpoints that run the analysis pipeline per request. */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final AdmissionInterceptor admission;
+
+    public WebConfig(AdmissionInterceptor admission) {
+        this.admission = admission;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(admission).addPathPatterns("/analyze", "/meetings");
+    }
+}
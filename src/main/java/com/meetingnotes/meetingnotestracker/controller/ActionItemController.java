@@ -0,0 +1,100 @@
+package com.meetingnotes.meetingnotestracker.controller;
+
+import com.meetingnotes.meetingnotestracker.model.ActionItem;
+import com.meetingnotes.meetingnotestracker.model.Person;
+import com.meetingnotes.meetingnotestracker.repo.ActionItemRepo;
+import com.meetingnotes.meetingnotestracker.service.ActionItemService;
+import com.meetingnotes.meetingnotestracker.service.PersonService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/action-items")
+public class ActionItemController {
+
+    private final ActionItemService service;
+    private final ActionItemRepo repo;
+    private final PersonService people;
+
+    public ActionItemController(ActionItemService service, ActionItemRepo repo, PersonService people) {
+        this.service = service; this.repo = repo; this.people = people;
+    }
+
+    /**
+     * Action items across meetings. from/to (ISO dates, inclusive) select by resolved due date,
+     * soonest first; owner is a person's name; status=OPEN by default, status=ALL for every item.
+     * Pass nextCursor back as "after" for the next page.
+     */
+    @GetMapping
+    public ResponseEntity<?> list(@RequestParam(value="from", required=false) String from,
+                                  @RequestParam(value="to", required=false) String to,
+                                  @RequestParam(value="owner", required=false) String owner,
+                                  @RequestParam(value="status", defaultValue="OPEN") String status,
+                                  @RequestParam(value="after", required=false) String after,
+                                  @RequestParam(value="limit", defaultValue="100") int limit) {
+        int l = Math.min(Math.max(1, limit), 1000);
+        try {
+            ActionItem.Status wanted = parseStatus(status);
+            Long ownerId = null;
+            if (owner != null && !owner.isBlank()) {
+                Optional<Person> p = people.find(owner);
+                if (p.isEmpty()) return ResponseEntity.ok(page(List.of(), null)); // nobody by that name owns anything
+                ownerId = p.get().getId();
+            }
+            ActionItemService.Page page = service.find(new ActionItemService.Filter(
+                    date(from), date(to), ownerId, wanted, after, l));
+            return ResponseEntity.ok(page(page.items(), page.nextCursor()));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> get(@PathVariable Long id) {
+        return repo.findById(id).<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /** Body: {"status": "DONE"} and/or {"dueDate": "by Aug 20"}. */
+    @PatchMapping("/{id}")
+    public ResponseEntity<?> update(@PathVariable Long id, @RequestBody Map<String, String> body) {
+        try {
+            ActionItem.Status status = null;
+            if (body.get("status") != null) {
+                status = parseStatus(body.get("status"));
+                if (status == null) throw new IllegalArgumentException("status must be OPEN or DONE");
+            }
+            return service.update(id, status, body.get("dueDate")).<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    private static ActionItem.Status parseStatus(String status) {
+        if ("ALL".equalsIgnoreCase(status)) return null;
+        try {
+            return ActionItem.Status.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown status: " + status);
+        }
+    }
+
+    private static LocalDate date(String s) {
+        return s == null || s.isBlank() ? null : LocalDate.parse(s.trim());
+    }
+
+    private static Map<String, Object> page(List<ActionItem> items, String nextCursor) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("items", items);
+        out.put("nextCursor", nextCursor);
+        return out;
+    }
+}
@@ -0,0 +1,53 @@
+package com.meetingnotes.meetingnotestracker.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingnotes.meetingnotestracker.service.AnalysisAdmission;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Map;
+
+/**
+ * Refuses POSTs to the admission-controlled endpoints before their bodies are read when the client's
+ * bucket is empty or the analysis pool is full, so shedding a multi-megabyte transcript costs no parsing.
+ * Requests that pass are charged and queued by the controller.
+ */
+@Component
+public class AdmissionInterceptor implements HandlerInterceptor {
+
+    private final AnalysisAdmission admission;
+    private final ObjectMapper mapper;
+
+    public AdmissionInterceptor(AnalysisAdmission admission, ObjectMapper mapper) {
+        this.admission = admission;
+        this.mapper = mapper;
+    }
+
+    /** Whose token bucket a request draws from: the configured client header when sent, else the peer address. */
+    static String client(AnalysisAdmission admission, HttpServletRequest request) {
+        String header = admission.clientHeader();
+        String id = header.isEmpty() ? null : request.getHeader(header);
+        return id != null && !id.isBlank() ? id : request.getRemoteAddr();
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        // the async dispatch that writes a finished result comes through here again
+        if (!"POST".equals(request.getMethod()) || request.getDispatcherType() == DispatcherType.ASYNC) return true;
+        try {
+            admission.precheck(client(admission, request));
+            return true;
+        } catch (AnalysisAdmission.Rejected r) {
+            response.setStatus(r.getStatus());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(r.getRetryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            mapper.writeValue(response.getOutputStream(), Map.of("error", r.getMessage()));
+            return false;
+        }
+    }
+}
@@ -1,27 +1,94 @@
 package com.meetingnotes.meetingnotestracker.controller;
 
+import com.meetingnotes.meetingnotestracker.service.AnalysisAdmission;
+import com.meetingnotes.meetingnotestracker.service.AnalysisCache;
 import com.meetingnotes.meetingnotestracker.service.AnalysisService;
+import com.meetingnotes.meetingnotestracker.service.BatchAnalysisService;
+import com.meetingnotes.meetingnotestracker.service.CorpusStats;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 public class AnalysisController {
 
     private final AnalysisService analysisService;
 
-    public AnalysisController(AnalysisService analysisService) {
+    private final BatchAnalysisService batchService;
+
+    private final AnalysisCache cache;
+    private final CorpusStats corpus;
+    private final AnalysisAdmission admission;
+
+    public AnalysisController(AnalysisService analysisService, BatchAnalysisService batchService, AnalysisCache cache,
+                              CorpusStats corpus, AnalysisAdmission admission) {
         this.analysisService = analysisService;
+        this.batchService = batchService;
+        this.cache = cache;
+        this.corpus = corpus;
+        this.admission = admission;
     }
 
+    /** Analyzed on the admission-controlled pool; the Tomcat thread is released while it runs. */
     @PostMapping("/analyze")
-    public ResponseEntity<?> analyze(@RequestBody Map<String, String> body) {
+    public CompletableFuture<ResponseEntity<?>> analyze(@RequestBody Map<String, String> body, HttpServletRequest request) {
+        String transcript = Objects.requireNonNullElse(body.get("transcript"), ""); // {"transcript": null} is empty
         try {
-            String transcript = body.getOrDefault("transcript", "");
-            return ResponseEntity.ok(analysisService.analyze(transcript));
-        } catch (Exception e) {
-            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+            return admission.submit(AdmissionInterceptor.client(admission, request), transcript.length(),
+                            () -> analysisService.analyze(transcript))
+                    .handle((result, e) -> e == null ? ResponseEntity.ok(result) : failure(e));
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(failure(e));
+        }
+    }
+
+    @GetMapping("/analyze/admission")
+    public Map<String, Object> admissionStats() {
+        return admission.stats();
+    }
+
+    /** 429/503 with Retry-After for admission rejections, 400 with the message for anything else. */
+    static ResponseEntity<?> failure(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof AnalysisAdmission.Rejected r) {
+            return ResponseEntity.status(r.getStatus())
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(r.getRetryAfterSeconds()))
+                    .body(Map.of("error", r.getMessage()));
         }
+        return ResponseEntity.badRequest().body(Map.of("error", String.valueOf(cause.getMessage())));
+    }
+
+    /** NDJSON in, NDJSON out: results are streamed back in input order as they complete. */
+    @PostMapping(value = "/analyze/batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public void analyzeBatch(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        batchService.analyze(request.getInputStream(), response.getOutputStream());
+    }
+
+    @GetMapping("/analyze/cache")
+    public Map<String, Object> cacheStats() {
+        return cache.stats();
+    }
+
+    /** Size of the corpus that summary scoring weighs terms against. */
+    @GetMapping("/analyze/corpus")
+    public Map<String, Object> corpusStats() {
+        return corpus.stats();
+    }
+
+    @DeleteMapping("/analyze/cache")
+    public ResponseEntity<?> clearCache() {
+        cache.clear();
+        return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,82 @@
+package com.meetingnotes.meetingnotestracker.controller;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * GET /actuator/analysis: one-page view of the pipeline metrics with p50/p99, instead of walking
+ * /actuator/metrics meter by meter. Latencies are in milliseconds.
+ */
+@Component
+@Endpoint(id = "analysis")
+public class AnalysisMetricsEndpoint {
+
+    private final MeterRegistry registry;
+
+    public AnalysisMetricsEndpoint(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        DistributionSummary chars = registry.find("analysis.transcript.chars").summary();
+        if (chars != null) out.put("transcriptChars", summary(chars.takeSnapshot(), 1));
+        out.put("sentences", count("analysis.sentences"));
+        out.put("actionItems", count("analysis.action.items"));
+        Map<String, Object> matches = new TreeMap<>();
+        registry.find("analysis.pattern.matches").counters()
+                .forEach(c -> matches.put(c.getId().getTag("pattern"), (long) c.count()));
+        out.put("patternMatches", matches);
+        out.put("stages", timers("analysis.stage", id -> id.getTag("stage")));
+        out.put("analyze", timers("analysis.duration", id -> id.getTag("size") + " " + id.getTag("mode")));
+        out.put("persist", timers("meetings.persist", id -> "batch"));
+        out.put("endpoints", timers("http.server.requests", id -> id.getTag("method") + " " + id.getTag("uri")));
+        out.put("repositories", timers("spring.data.repository.invocations",
+                id -> id.getTag("repository") + "." + id.getTag("method")));
+        return out;
+    }
+
+    private long count(String name) {
+        return (long) registry.find(name).counters().stream().mapToDouble(c -> c.count()).sum();
+    }
+
+    private Map<String, Object> timers(String name, Function<Meter.Id, String> key) {
+        // Several meters can share a key (e.g. one per outcome tag); keep the busiest
+        Map<String, HistogramSnapshot> byKey = new TreeMap<>();
+        for (Timer t : registry.find(name).timers()) {
+            HistogramSnapshot s = t.takeSnapshot();
+            byKey.merge(key.apply(t.getId()), s, (a, b) -> a.count() >= b.count() ? a : b);
+        }
+        double nanosPerMs = TimeUnit.MILLISECONDS.toNanos(1);
+        Map<String, Object> out = new LinkedHashMap<>();
+        byKey.forEach((k, s) -> out.put(k, summary(s, nanosPerMs)));
+        return out;
+    }
+
+    private static Map<String, Object> summary(HistogramSnapshot s, double scale) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("count", s.count());
+        out.put("mean", round(s.mean() / scale));
+        for (ValueAtPercentile p : s.percentileValues()) {
+            out.put("p" + Math.round(p.percentile() * 100), round(p.value() / scale));
+        }
+        out.put("max", round(s.max() / scale));
+        return out;
+    }
+
+    private static double round(double v) {
+        return Math.round(v * 1000) / 1000.0;
+    }
+}
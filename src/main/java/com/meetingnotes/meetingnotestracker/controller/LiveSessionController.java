@@ -0,0 +1,71 @@
+package com.meetingnotes.meetingnotestracker.controller;
+
+import com.meetingnotes.meetingnotestracker.service.LiveSessionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/live")
+public class LiveSessionController {
+
+    private final LiveSessionService live;
+    private final long sseTimeoutMillis;
+
+    public LiveSessionController(LiveSessionService live,
+                                 @Value("${live.sse-timeout-ms:3600000}") long sseTimeoutMillis) {
+        this.live = live;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> open() {
+        try {
+            return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", live.open()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    /**
+     * Body: {"text": "...", "final": true}; final marks the end of an utterance, which ends a sentence even
+     * without punctuation. Responds with the delta that is also pushed to SSE subscribers.
+     */
+    @PostMapping("/{id}/fragments")
+    public ResponseEntity<?> append(@PathVariable String id, @RequestBody Map<String, Object> body) {
+        return live.append(id, Objects.toString(body.get("text"), ""),
+                        Boolean.parseBoolean(String.valueOf(body.get("final"))))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> events(@PathVariable String id) {
+        return live.subscribe(id, sseTimeoutMillis)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> snapshot(@PathVariable String id) {
+        return live.snapshot(id).<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/{id}/finish")
+    public ResponseEntity<?> finish(@PathVariable String id) {
+        return live.finish(id).<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> close(@PathVariable String id) {
+        return live.close(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+}
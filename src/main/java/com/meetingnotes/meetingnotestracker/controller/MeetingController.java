@@ -1,28 +1,62 @@
 package com.meetingnotes.meetingnotestracker.controller;
 
-import com.meetingnotes.meetingnotestracker.model.ActionItem;
 import com.meetingnotes.meetingnotestracker.model.Meeting;
+import com.meetingnotes.meetingnotestracker.model.MeetingSummary;
+import com.meetingnotes.meetingnotestracker.model.Person;
 import com.meetingnotes.meetingnotestracker.repo.MeetingRepo;
-import com.meetingnotes.meetingnotestracker.service.AnalysisService;
+import com.meetingnotes.meetingnotestracker.service.AnalysisAdmission;
+import com.meetingnotes.meetingnotestracker.service.ArchiveService;
+import com.meetingnotes.meetingnotestracker.service.IngestService;
+import com.meetingnotes.meetingnotestracker.service.MeetingPayloadCache;
+import com.meetingnotes.meetingnotestracker.service.MeetingService;
+import com.meetingnotes.meetingnotestracker.service.PersonService;
+import com.meetingnotes.meetingnotestracker.service.SearchIndexService;
+import com.meetingnotes.meetingnotestracker.service.SimilarityIndexService;
+import com.meetingnotes.meetingnotestracker.service.TranscriptStore;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.io.IOException;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/meetings")
 public class MeetingController {
 
     private final MeetingRepo repo;
-    private final AnalysisService analysis;
+    private final MeetingService meetings;
+    private final SearchIndexService search;
+    private final PersonService people;
+    private final IngestService ingest;
+    private final TranscriptStore transcripts;
+    private final ArchiveService archive;
+    private final MeetingPayloadCache payloads;
+    private final SimilarityIndexService similarity;
+    private final AnalysisAdmission admission;
 
-    public MeetingController(MeetingRepo repo, AnalysisService analysis) {
-        this.repo = repo; this.analysis = analysis;
+    public MeetingController(MeetingRepo repo, MeetingService meetings, SearchIndexService search, PersonService people,
+                             IngestService ingest, TranscriptStore transcripts, ArchiveService archive,
+                             MeetingPayloadCache payloads, SimilarityIndexService similarity,
+                             AnalysisAdmission admission) {
+        this.repo = repo; this.meetings = meetings; this.search = search; this.people = people; this.ingest = ingest;
+        this.transcripts = transcripts; this.archive = archive; this.payloads = payloads; this.similarity = similarity;
+        this.admission = admission;
     }
 
+    /** Analysis and saving run on the admission-controlled pool, like POST /analyze. */
     @PostMapping
-    public ResponseEntity<?> create(@RequestBody Map<String, Object> body) {
+    public CompletableFuture<ResponseEntity<?>> create(@RequestBody Map<String, Object> body, HttpServletRequest request) {
         try {
             String title = String.valueOf(body.getOrDefault("title","Untitled Meeting"));
             String attendees = String.valueOf(body.getOrDefault("attendees",""));
@@ -31,56 +65,205 @@ public class MeetingController {
                     ? Instant.parse(String.valueOf(body.get("occurredAt")))
                     : Instant.now();
 
-            Map<String,Object> analyzed = analysis.analyze(transcript);
-
-            Meeting m = new Meeting();
-            m.setTitle(title);
-            m.setAttendees(attendees);
-            m.setOccurredAt(occurredAt);
-            m.setTranscript(transcript);
-            m.setSummary(String.valueOf(analyzed.getOrDefault("summary","")));
-            m.setDecisions(String.join("\n", (List<String>) analyzed.getOrDefault("decisions", List.of())));
-
-            List<Map<String,String>> ai = (List<Map<String,String>>) analyzed.getOrDefault("actionItems", List.of());
-            List<ActionItem> items = new ArrayList<>();
-            for (Map<String,String> it : ai) {
-                ActionItem a = new ActionItem();
-                a.setOwner(it.getOrDefault("owner",""));
-                a.setTask(it.getOrDefault("task",""));
-                a.setDueDate(it.getOrDefault("due",""));
-                a.setMeeting(m);
-                items.add(a);
-            }
-            m.setActionItems(items);
-
-            Meeting saved = repo.save(m);
-            return ResponseEntity.ok(saved);
+            return admission.submit(AdmissionInterceptor.client(admission, request), transcript.length(),
+                            () -> meetings.create(title, attendees, transcript, occurredAt))
+                    .handle((saved, e) -> e == null ? ResponseEntity.ok(saved) : AnalysisController.failure(e));
+        } catch (Exception e) {
+            return CompletableFuture.completedFuture(AnalysisController.failure(e));
+        }
+    }
+
+    /** Same body as POST /meetings, but returns 202 with a ticket at once; analysis and saving happen in the background. */
+    @PostMapping("/ingest")
+    public ResponseEntity<?> ingest(@RequestBody Map<String, Object> body) {
+        try {
+            String title = String.valueOf(body.getOrDefault("title","Untitled Meeting"));
+            String attendees = String.valueOf(body.getOrDefault("attendees",""));
+            String transcript = String.valueOf(body.getOrDefault("transcript",""));
+            Instant occurredAt = body.containsKey("occurredAt")
+                    ? Instant.parse(String.valueOf(body.get("occurredAt")))
+                    : Instant.now();
+
+            IngestService.Ticket ticket = ingest.submit(title, attendees, transcript, occurredAt);
+            return ResponseEntity.accepted()
+                    .header(HttpHeaders.LOCATION, "/meetings/ingest/" + ticket.getId())
+                    .body(ticket);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(Map.of("error", "Ingest queue is full, retry later"));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
         }
     }
 
+    @GetMapping("/ingest/{ticket}")
+    public ResponseEntity<?> ingestStatus(@PathVariable String ticket) {
+        return ingest.ticket(ticket).<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/ingest")
+    public Map<String, Object> ingestStats() {
+        return ingest.stats();
+    }
+
     @GetMapping
-    public List<Meeting> list(@RequestParam(value="q", required=false) String q,
-                              @RequestParam(value="attendee", required=false) String attendee) {
+    public Object list(@RequestParam(value="q", required=false) String q,
+                       @RequestParam(value="attendee", required=false) String attendee,
+                       @RequestParam(value="page", defaultValue="0") int page,
+                       @RequestParam(value="size", defaultValue="20") int size,
+                       @RequestParam(value="after", required=false) Long after,
+                       @RequestParam(value="limit", defaultValue="50") int limit) {
         if (q != null && !q.isBlank()) {
-            return repo.findByTitleContainingIgnoreCaseOrTranscriptContainingIgnoreCase(q, q);
+            return search(q, Math.max(0, page), Math.min(Math.max(1, size), 100));
         }
+        int l = Math.min(Math.max(1, limit), 500);
         if (attendee != null && !attendee.isBlank()) {
-            return repo.findByAttendeesContainingIgnoreCase(attendee);
+            // exact (normalized) attendee match through the person index
+            Long personId = people.find(attendee).map(Person::getId).orElse(null);
+            return personId == null ? page(List.of(), l) : page(after == null
+                    ? repo.findLatestSummariesAttendedBy(personId, Limit.of(l))
+                    : repo.findSummariesAttendedByBefore(personId, after, Limit.of(l)), l);
+        }
+        return page(after == null
+                ? repo.findLatestSummaries(Limit.of(l))
+                : repo.findSummariesBefore(after, Limit.of(l)), l);
+    }
+
+    /** Keyset page of summaries, newest first; pass nextCursor back as ?after= for the next page. */
+    private Map<String, Object> page(List<MeetingSummary> items, int limit) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("items", items);
+        out.put("nextCursor", items.size() < limit ? null : items.get(items.size() - 1).id());
+        return out;
+    }
+
+    /** Every meeting summary as NDJSON, streamed from a DB cursor. */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void stream(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        meetings.writeSummaries(response.getOutputStream());
+    }
+
+    /** Whole meetings (transcript, analysis, action items) as NDJSON, oldest first; the input of /meetings/import. */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        archive.export(response.getOutputStream());
+    }
+
+    /**
+     * Bulk import of an export, read as a stream and saved in batches. trustAnalysis=true keeps the
+     * stored summary, decisions and action items instead of analyzing every transcript again.
+     */
+    // Typed bodies only: a form content type would make the servlet container consume the stream as parameters
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<?> importArchive(@RequestParam(value="trustAnalysis", defaultValue="false") boolean trustAnalysis,
+                                           HttpServletRequest request) throws IOException {
+        try {
+            return ResponseEntity.ok(archive.importArchive(request.getInputStream(), trustAnalysis));
+        } catch (ArchiveService.ImportFailed e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage(), "imported", e.getImported(),
+                    "resumeFromLine", e.getResumeFromLine()));
         }
-        return repo.findAll();
     }
 
+    /** Ranked full-text search: terms and "quoted phrases" must all match. */
+    private Map<String, Object> search(String q, int page, int size) {
+        SearchIndexService.Hits hits = search.search(q, page, size);
+        Map<Long, MeetingSummary> byId = new HashMap<>();
+        if (!hits.meetingIds().isEmpty()) {
+            repo.findSummariesByIds(hits.meetingIds()).forEach(m -> byId.put(m.id(), m));
+        }
+        List<MeetingSummary> items = hits.meetingIds().stream().map(byId::get).filter(Objects::nonNull).toList();
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("total", hits.total());
+        out.put("totalExact", hits.exact());
+        out.put("page", page);
+        out.put("size", size);
+        out.put("items", items);
+        return out;
+    }
+
+    @GetMapping("/cache")
+    public Map<String, Object> cacheStats() {
+        return payloads.stats();
+    }
+
+    /**
+     * Pre-serialized JSON with a strong ETag. For a matching If-None-Match Spring answers 304 with no body;
+     * no-cache makes clients revalidate every time instead of trusting a stale copy.
+     */
     @GetMapping("/{id}")
     public ResponseEntity<?> get(@PathVariable Long id) {
-        return repo.findById(id).<ResponseEntity<?>>map(ResponseEntity::ok)
+        return meetings.detail(id).<ResponseEntity<?>>map(p -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag(p.etag())
+                        .cacheControl(CacheControl.noCache())
+                        .body(p.json()))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    /** The transcript as plain text, inflated from compressed storage while it is written out. */
+    @GetMapping(value = "/{id}/transcript", produces = MediaType.TEXT_PLAIN_VALUE)
+    public void transcript(@PathVariable Long id, ServletWebRequest webRequest, HttpServletResponse response)
+            throws IOException {
+        // A transcript never changes once saved and ids are not reused, so the id is a strong validator
+        String etag = "\"transcript-" + id + "\"";
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null && transcripts.exists(id)
+                && webRequest.checkNotModified(etag)) {
+            return;
+        }
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().getHeaderValue());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        if (!transcripts.write(id, response.getOutputStream())) {
+            response.reset(); // nothing written yet; drop the text/plain type so the error body can render
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+
+    @GetMapping("/similar")
+    public Map<String, Object> similarityStats() {
+        return similarity.stats();
+    }
+
+    /** Approximate nearest neighbours by transcript vocabulary (MinHash/LSH), most similar first. */
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<?> similar(@PathVariable Long id,
+                                     @RequestParam(value="limit", defaultValue="10") int limit,
+                                     @RequestParam(value="minSimilarity", defaultValue="0.1") double minSimilarity) {
+        if (minSimilarity < 0 || minSimilarity > 1) {
+            return ResponseEntity.badRequest().body(Map.of("error", "minSimilarity must be between 0 and 1"));
+        }
+        Optional<List<SimilarityIndexService.Match>> matches =
+                similarity.similar(id, Math.min(Math.max(1, limit), 100), minSimilarity);
+        if (matches.isEmpty()) return ResponseEntity.notFound().build();
+
+        Map<Long, MeetingSummary> byId = new HashMap<>();
+        List<Long> ids = matches.get().stream().map(SimilarityIndexService.Match::meetingId).toList();
+        if (!ids.isEmpty()) repo.findSummariesByIds(ids).forEach(s -> byId.put(s.id(), s));
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (SimilarityIndexService.Match m : matches.get()) {
+            MeetingSummary s = byId.get(m.meetingId());
+            if (s == null) continue; // deleted since the lookup
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("meeting", s);
+            item.put("similarity", Math.round(m.similarity() * 1000) / 1000.0);
+            items.add(item);
+        }
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("id", id);
+        out.put("items", items);
+        return ResponseEntity.ok(out);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<?> delete(@PathVariable Long id) {
-        if (repo.existsById(id)) { repo.deleteById(id); return ResponseEntity.noContent().build(); }
-        return ResponseEntity.notFound().build();
+        return meetings.delete(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
     }
 }
@@ -1,11 +1,14 @@
 package com.meetingnotes.meetingnotestracker.controller;
 
 import com.meetingnotes.meetingnotestracker.service.WhisperService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 public class MeetingNotesController {
@@ -21,10 +24,48 @@ public class MeetingNotesController {
         try {
             String transcript = whisperService.transcribeAudio(file);
             return ResponseEntity.ok(Map.of("transcript", transcript));
+        } catch (RejectedExecutionException e) {
+            return busy();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of(
                     "error", e.getMessage()
             ));
         }
     }
+
+    /** Background transcription: 202 with a job whose text and partial result can be polled while it runs. */
+    @PostMapping("/transcriptions")
+    public ResponseEntity<?> startTranscription(@RequestParam("file") MultipartFile file) {
+        try {
+            WhisperService.Job job = whisperService.start(file);
+            return ResponseEntity.accepted()
+                    .header(HttpHeaders.LOCATION, "/transcriptions/" + job.getId())
+                    .body(job);
+        } catch (RejectedExecutionException e) {
+            return busy();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/transcriptions/{id}")
+    public ResponseEntity<?> transcription(@PathVariable String id) {
+        return whisperService.job(id).<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /** Model state, pool usage and throughput (audio minutes per CPU minute). */
+    @GetMapping("/transcriptions")
+    public Map<String, Object> transcriptionStats() {
+        return whisperService.stats();
+    }
+
+    private ResponseEntity<?> busy() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "5")
+                .body(Map.of("error", "Transcription queue is full, retry later"));
+    }
 }
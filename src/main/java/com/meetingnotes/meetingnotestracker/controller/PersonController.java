@@ -0,0 +1,63 @@
+package com.meetingnotes.meetingnotestracker.controller;
+
+import com.meetingnotes.meetingnotestracker.model.ActionItem;
+import com.meetingnotes.meetingnotestracker.model.MeetingSummary;
+import com.meetingnotes.meetingnotestracker.model.Person;
+import com.meetingnotes.meetingnotestracker.repo.ActionItemRepo;
+import com.meetingnotes.meetingnotestracker.repo.MeetingRepo;
+import com.meetingnotes.meetingnotestracker.service.PersonService;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/people")
+public class PersonController {
+
+    private final PersonService people;
+    private final MeetingRepo meetings;
+    private final ActionItemRepo actionItems;
+
+    public PersonController(PersonService people, MeetingRepo meetings, ActionItemRepo actionItems) {
+        this.people = people; this.meetings = meetings; this.actionItems = actionItems;
+    }
+
+    /** Meetings attended by a person (exact, case-insensitive name), newest first, keyset-paginated. */
+    @GetMapping("/{name}/meetings")
+    public ResponseEntity<?> meetings(@PathVariable String name,
+                                      @RequestParam(value="after", required=false) Long after,
+                                      @RequestParam(value="limit", defaultValue="50") int limit) {
+        int l = Math.min(Math.max(1, limit), 500);
+        return people.find(name).<ResponseEntity<?>>map(p -> {
+            List<MeetingSummary> items = after == null
+                    ? meetings.findLatestSummariesAttendedBy(p.getId(), Limit.of(l))
+                    : meetings.findSummariesAttendedByBefore(p.getId(), after, Limit.of(l));
+            Map<String, Object> out = new LinkedHashMap<>();
+            out.put("person", p.getName());
+            out.put("items", items);
+            out.put("nextCursor", items.size() < l ? null : items.get(items.size() - 1).id());
+            return ResponseEntity.ok(out);
+        }).orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /** Action items owned by a person; status=OPEN by default, status=ALL for every item. */
+    @GetMapping("/{name}/action-items")
+    public ResponseEntity<?> actionItems(@PathVariable String name,
+                                         @RequestParam(value="status", defaultValue="OPEN") String status,
+                                         @RequestParam(value="limit", defaultValue="100") int limit) {
+        int l = Math.min(Math.max(1, limit), 1000);
+        try {
+            ActionItem.Status wanted = "ALL".equalsIgnoreCase(status) ? null : ActionItem.Status.valueOf(status.toUpperCase());
+            return people.find(name).<ResponseEntity<?>>map((Person p) -> ResponseEntity.ok(wanted == null
+                    ? actionItems.findByOwner(p.getId(), Limit.of(l))
+                    : actionItems.findByOwnerAndStatus(p.getId(), wanted, Limit.of(l))))
+                    .orElseGet(() -> ResponseEntity.notFound().build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Unknown status: " + status));
+        }
+    }
+}
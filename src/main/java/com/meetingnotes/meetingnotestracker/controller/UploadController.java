@@ -0,0 +1,112 @@
+package com.meetingnotes.meetingnotestracker.controller;
+
+import com.meetingnotes.meetingnotestracker.service.UploadService;
+import com.meetingnotes.meetingnotestracker.service.WhisperService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Resumable chunked audio uploads for recordings too long for /upload-audio:
+ * POST /uploads, then PUT /uploads/{id}?offset=N with raw bytes and an X-Chunk-CRC32C header
+ * (hex) per chunk, GET /uploads/{id} to find the offset to resume from, and finally
+ * POST /uploads/{id}/complete to start transcription.
+ */
+@RestController
+@RequestMapping("/uploads")
+public class UploadController {
+
+    static final String CHECKSUM_HEADER = "X-Chunk-CRC32C";
+
+    private final UploadService uploads;
+
+    public UploadController(UploadService uploads) {
+        this.uploads = uploads;
+    }
+
+    @PostMapping
+    public ResponseEntity<?> create(@RequestBody(required = false) Map<String, Object> body) {
+        try {
+            Map<String, Object> b = body == null ? Map.of() : body;
+            String fileName = String.valueOf(b.getOrDefault("fileName", ""));
+            long size = Long.parseLong(String.valueOf(b.getOrDefault("size", "-1")));
+            UploadService.Upload u = uploads.create(fileName, size);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(HttpHeaders.LOCATION, "/uploads/" + u.id())
+                    .body(status(u, 0));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> get(@PathVariable String id) throws IOException {
+        UploadService.Upload u = uploads.find(id).orElse(null);
+        if (u == null) return ResponseEntity.notFound().build();
+        return ResponseEntity.ok(status(u, uploads.offset(u)));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<?> chunk(@PathVariable String id, @RequestParam("offset") long offset,
+                                   @RequestHeader(value = CHECKSUM_HEADER, required = false) String crc32c,
+                                   HttpServletRequest request) throws IOException {
+        UploadService.Upload u = uploads.find(id).orElse(null);
+        if (u == null) return ResponseEntity.notFound().build();
+        if (crc32c == null) return ResponseEntity.badRequest().body(Map.of("error", CHECKSUM_HEADER + " header is required"));
+        try {
+            long next = uploads.append(u, offset, crc32c, Channels.newChannel(request.getInputStream()));
+            return ResponseEntity.ok(status(u, next));
+        } catch (UploadService.ChunkRejected e) {
+            return rejected(e);
+        }
+    }
+
+    @PostMapping("/{id}/complete")
+    public ResponseEntity<?> complete(@PathVariable String id) {
+        UploadService.Upload u = uploads.find(id).orElse(null);
+        if (u == null) return ResponseEntity.notFound().build();
+        try {
+            WhisperService.Job job = uploads.complete(u);
+            return ResponseEntity.accepted()
+                    .header(HttpHeaders.LOCATION, "/transcriptions/" + job.getId())
+                    .body(job);
+        } catch (UploadService.ChunkRejected e) {
+            return rejected(e);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "5")
+                    .body(Map.of("error", "Transcription queue is full, retry later"));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> abort(@PathVariable String id) throws IOException {
+        return uploads.abort(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    private Map<String, Object> status(UploadService.Upload u, long offset) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("id", u.id());
+        out.put("fileName", u.fileName());
+        out.put("size", u.expectedSize() < 0 ? null : u.expectedSize());
+        out.put("offset", offset);
+        return out;
+    }
+
+    // 409: wrong offset (resume from the returned one); 422: bad chunk, resend it
+    private ResponseEntity<?> rejected(UploadService.ChunkRejected e) {
+        return ResponseEntity.status(e.conflict() ? HttpStatus.CONFLICT : HttpStatus.UNPROCESSABLE_ENTITY)
+                .body(Map.of("error", e.getMessage(), "offset", e.offset()));
+    }
+}
@@ -1,16 +1,44 @@
 package com.meetingnotes.meetingnotestracker.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 
+import java.time.LocalDate;
+
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_action_owner_status", columnList = "owner_person_id, status"),
+        // Due-date range scans, alone or per owner
+        @Index(name = "idx_action_due_on", columnList = "due_on, status"),
+        @Index(name = "idx_action_owner_due_on", columnList = "owner_person_id, due_on")
+})
 public class ActionItem {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    public enum Status { OPEN, DONE }
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "action_item_seq")
+    @SequenceGenerator(name = "action_item_seq", sequenceName = "action_item_seq", allocationSize = 50)
     private Long id;
 
     private String owner;
     @Lob private String task;
     private String dueDate; // free text: "before EOW", "Aug 15", etc.
+    private LocalDate dueOn; // dueDate resolved against the meeting date (DueDateResolver); null if it names no date
+
+    // set on rows whose dueDate has been through the resolver, dated or not; null on rows saved before that,
+    // which the startup backfill then resolves exactly once
+    @JsonIgnore
+    private Boolean dueResolved = Boolean.TRUE;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 8)
+    private Status status = Status.OPEN;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "owner_person_id")
+    private Person ownerPerson;
 
+    @JsonIgnore // back-reference; serializing it recurses through Meeting.actionItems
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "meeting_id")
     private Meeting meeting;
@@ -23,6 +51,15 @@ public class ActionItem {
     public void setTask(String task) { this.task = task; }
     public String getDueDate() { return dueDate; }
     public void setDueDate(String dueDate) { this.dueDate = dueDate; }
+    public LocalDate getDueOn() { return dueOn; }
+    public void setDueOn(LocalDate dueOn) { this.dueOn = dueOn; }
+    public Boolean getDueResolved() { return dueResolved; }
+    public void setDueResolved(Boolean dueResolved) { this.dueResolved = dueResolved; }
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+    public Person getOwnerPerson() { return ownerPerson; }
+    public void setOwnerPerson(Person ownerPerson) { this.ownerPerson = ownerPerson; }
+    public Long getMeetingId() { return meeting == null ? null : meeting.getId(); }
     public Meeting getMeeting() { return meeting; }
     public void setMeeting(Meeting meeting) { this.meeting = meeting; }
 }
@@ -0,0 +1,10 @@
+package com.meetingnotes.meetingnotestracker.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.time.LocalDate;
+
+/** Action item as it appears in a meeting archive line; meetingId only joins it to its meeting while exporting. */
+public record ArchivedActionItem(@JsonIgnore Long meetingId, String owner, String task, String dueDate,
+                                 LocalDate dueOn, ActionItem.Status status) {
+}
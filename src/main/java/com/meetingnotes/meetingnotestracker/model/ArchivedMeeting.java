@@ -0,0 +1,21 @@
+package com.meetingnotes.meetingnotestracker.model;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One line of the NDJSON meeting archive (GET /meetings/export, POST /meetings/import): the meeting
+ * with its transcript, stored analysis and action items. The id is informational; imports assign new ids.
+ */
+public record ArchivedMeeting(Long id, String title, Instant occurredAt, String attendees, String summary,
+                              String decisions, String transcript, List<ArchivedActionItem> actionItems) {
+
+    /** Row projection for exports; transcript and items are merged in afterwards. */
+    public ArchivedMeeting(Long id, String title, Instant occurredAt, String attendees, String summary, String decisions) {
+        this(id, title, occurredAt, attendees, summary, decisions, null, List.of());
+    }
+
+    public ArchivedMeeting with(String transcript, List<ArchivedActionItem> actionItems) {
+        return new ArchivedMeeting(id, title, occurredAt, attendees, summary, decisions, transcript, actionItems);
+    }
+}
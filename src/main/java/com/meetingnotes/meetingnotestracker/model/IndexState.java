@@ -0,0 +1,34 @@
+package com.meetingnotes.meetingnotestracker.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Progress of a derived index's rebuild (search postings, similarity signatures): the last meeting id it
+ * has covered, and whether it reached the end. A rebuild interrupted by a restart resumes from the cursor.
+ */
+@Entity
+public class IndexState {
+
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    // settings the index was built with (e.g. similarity bands x rows); a change forces a full rebuild
+    @Column(length = 64)
+    private String config;
+
+    @Column(name = "last_meeting_id")
+    private Long lastMeetingId;
+
+    private boolean complete;
+
+    // getters/setters
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getConfig() { return config; }
+    public void setConfig(String config) { this.config = config; }
+    public Long getLastMeetingId() { return lastMeetingId; }
+    public void setLastMeetingId(Long lastMeetingId) { this.lastMeetingId = lastMeetingId; }
+    public boolean isComplete() { return complete; }
+    public void setComplete(boolean complete) { this.complete = complete; }
+}
@@ -0,0 +1,28 @@
+package com.meetingnotes.meetingnotestracker.model;
+
+import jakarta.persistence.*;
+
+/** One locality-sensitive-hashing entry: a meeting filed under the hash of one band of its MinHash signature. */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_lsh_bucket_meeting", columnList = "bucket, meeting_id"),
+        @Index(name = "idx_lsh_meeting", columnList = "meeting_id")
+})
+public class LshBucket {
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lsh_bucket_seq")
+    @SequenceGenerator(name = "lsh_bucket_seq", sequenceName = "lsh_bucket_seq", allocationSize = 50)
+    private Long id;
+
+    private long bucket; // band number in the high 32 bits, hash of the band's rows in the low 32
+
+    @Column(name = "meeting_id", nullable = false)
+    private Long meetingId;
+
+    // getters/setters
+    public Long getId() { return id; }
+    public long getBucket() { return bucket; }
+    public void setBucket(long bucket) { this.bucket = bucket; }
+    public Long getMeetingId() { return meetingId; }
+    public void setMeetingId(Long meetingId) { this.meetingId = meetingId; }
+}
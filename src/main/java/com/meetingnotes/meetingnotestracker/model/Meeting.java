@@ -1,25 +1,42 @@
 package com.meetingnotes.meetingnotestracker.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 @Entity
 public class Meeting {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Pooled sequence ids (not IDENTITY) so Hibernate can batch inserts; see PersistenceConfig
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "meeting_seq")
+    @SequenceGenerator(name = "meeting_seq", sequenceName = "meeting_seq", allocationSize = 50)
     private Long id;
 
     private String title;
     private Instant occurredAt;
     private String attendees; // comma-separated for simplicity
-    @Lob private String transcript;
+    // Stored compressed in transcript_blob (TranscriptStore); set only on meetings being built
+    @Transient @JsonIgnore private String transcript;
     @Lob private String summary;
     @Lob private String decisions; // JSON string or newline text
 
-    @OneToMany(mappedBy = "meeting", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "meeting", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<ActionItem> actionItems = new ArrayList<>();
 
+    // Normalized form of "attendees"; meeting_attendee is indexed by person for per-person lookups
+    @JsonIgnore
+    @ManyToMany
+    @JoinTable(name = "meeting_attendee",
+            joinColumns = @JoinColumn(name = "meeting_id"),
+            inverseJoinColumns = @JoinColumn(name = "person_id"),
+            indexes = @Index(name = "idx_attendee_person_meeting", columnList = "person_id, meeting_id"))
+    private Set<Person> attendeePeople = new LinkedHashSet<>();
+
     // getters/setters
     public Long getId() { return id; }
     public String getTitle() { return title; }
@@ -36,4 +53,6 @@ public class Meeting {
     public void setDecisions(String decisions) { this.decisions = decisions; }
     public List<ActionItem> getActionItems() { return actionItems; }
     public void setActionItems(List<ActionItem> actionItems) { this.actionItems = actionItems; }
+    public Set<Person> getAttendeePeople() { return attendeePeople; }
+    public void setAttendeePeople(Set<Person> attendeePeople) { this.attendeePeople = attendeePeople; }
 }
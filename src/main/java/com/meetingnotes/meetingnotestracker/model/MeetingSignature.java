@@ -0,0 +1,35 @@
+package com.meetingnotes.meetingnotestracker.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+/** MinHash signature of one meeting's transcript, kept for similarity estimates between LSH candidates. */
+@Entity
+public class MeetingSignature implements Persistable<Long> {
+
+    public static final int MAX_BYTES = 4096;
+
+    @Id
+    @Column(name = "meeting_id")
+    private Long meetingId;
+
+    // big-endian ints, one per hash function; inline rather than a LOB so candidate checks read it with the row
+    @Column(nullable = false, length = MAX_BYTES)
+    private byte[] minhashes;
+
+    // Ids are assigned (the meeting's), so tell Spring Data to persist rather than merge-with-select
+    @Transient
+    private boolean isNew = true;
+
+    @PostLoad @PostPersist
+    void markNotNew() { this.isNew = false; }
+
+    @Override public Long getId() { return meetingId; }
+    @Override public boolean isNew() { return isNew; }
+
+    // getters/setters
+    public Long getMeetingId() { return meetingId; }
+    public void setMeetingId(Long meetingId) { this.meetingId = meetingId; }
+    public byte[] getMinhashes() { return minhashes; }
+    public void setMinhashes(byte[] minhashes) { this.minhashes = minhashes; }
+}
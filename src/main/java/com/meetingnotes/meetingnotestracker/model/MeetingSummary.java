@@ -0,0 +1,8 @@
+package com.meetingnotes.meetingnotestracker.model;
+
+import java.time.Instant;
+
+/** Listing projection of a meeting: no transcript, no action items, just their count. */
+public record MeetingSummary(Long id, String title, Instant occurredAt, String attendees,
+                             String summary, long actionItemCount) {
+}
@@ -0,0 +1,30 @@
+package com.meetingnotes.meetingnotestracker.model;
+
+import jakarta.persistence.*;
+
+import java.util.Locale;
+
+/** A meeting attendee or action-item owner, keyed by a normalized name. */
+@Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_person_normalized_name", columnNames = "normalized_name"))
+public class Person {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String name;
+
+    @Column(name = "normalized_name", nullable = false)
+    private String normalizedName;
+
+    /** Trimmed, whitespace-collapsed, lower-cased; "" for blank input. */
+    public static String normalize(String name) {
+        return name == null ? "" : name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // getters/setters
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getNormalizedName() { return normalizedName; }
+    public void setNormalizedName(String normalizedName) { this.normalizedName = normalizedName; }
+}
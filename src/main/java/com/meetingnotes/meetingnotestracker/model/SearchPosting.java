@@ -0,0 +1,45 @@
+package com.meetingnotes.meetingnotestracker.model;
+
+import jakarta.persistence.*;
+
+/** One inverted-index entry: a term's occurrences in one field of one meeting. */
+@Entity
+@Table(indexes = {
+        @Index(name = "idx_posting_term_meeting", columnList = "term, meeting_id"),
+        @Index(name = "idx_posting_meeting", columnList = "meeting_id")
+})
+public class SearchPosting {
+
+    public enum Field { TITLE, TRANSCRIPT, SUMMARY, DECISIONS, ACTION_ITEMS }
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "search_posting_seq")
+    @SequenceGenerator(name = "search_posting_seq", sequenceName = "search_posting_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(length = 64, nullable = false)
+    private String term;
+
+    @Column(name = "meeting_id", nullable = false)
+    private Long meetingId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16, nullable = false)
+    private Field field;
+
+    private int tf;
+
+    @Lob private byte[] positions; // varint-encoded gaps between token positions
+
+    // getters/setters
+    public Long getId() { return id; }
+    public String getTerm() { return term; }
+    public void setTerm(String term) { this.term = term; }
+    public Long getMeetingId() { return meetingId; }
+    public void setMeetingId(Long meetingId) { this.meetingId = meetingId; }
+    public Field getField() { return field; }
+    public void setField(Field field) { this.field = field; }
+    public int getTf() { return tf; }
+    public void setTf(int tf) { this.tf = tf; }
+    public byte[] getPositions() { return positions; }
+    public void setPositions(byte[] positions) { this.positions = positions; }
+}
@@ -0,0 +1,36 @@
+package com.meetingnotes.meetingnotestracker.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+/** Deflate-compressed UTF-8 transcript of one meeting, kept out of the meeting row so it is read only on request. */
+@Entity
+public class TranscriptBlob implements Persistable<Long> {
+    @Id
+    @Column(name = "meeting_id")
+    private Long meetingId;
+
+    private int length; // chars before compression
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] data;
+
+    // Ids are assigned (the meeting's), so tell Spring Data to persist rather than merge-with-select
+    @Transient
+    private boolean isNew = true;
+
+    @PostLoad @PostPersist
+    void markNotNew() { this.isNew = false; }
+
+    @Override public Long getId() { return meetingId; }
+    @Override public boolean isNew() { return isNew; }
+
+    // getters/setters
+    public Long getMeetingId() { return meetingId; }
+    public void setMeetingId(Long meetingId) { this.meetingId = meetingId; }
+    public int getLength() { return length; }
+    public void setLength(int length) { this.length = length; }
+    public byte[] getData() { return data; }
+    public void setData(byte[] data) { this.data = data; }
+}
@@ -0,0 +1,47 @@
+package com.meetingnotes.meetingnotestracker.repo;
+
+import com.meetingnotes.meetingnotestracker.model.ActionItem;
+import com.meetingnotes.meetingnotestracker.model.ArchivedActionItem;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// Filtered listings (/action-items) are Specifications built in ActionItemService
+public interface ActionItemRepo extends JpaRepository<ActionItem, Long>, JpaSpecificationExecutor<ActionItem> {
+
+    // Served by idx_action_owner_status (owner_person_id, status)
+    @Query("select a from ActionItem a where a.ownerPerson.id = :personId and a.status = :status order by a.id desc")
+    List<ActionItem> findByOwnerAndStatus(@Param("personId") Long personId,
+                                          @Param("status") ActionItem.Status status, Limit limit);
+
+    @Query("select a from ActionItem a where a.ownerPerson.id = :personId order by a.id desc")
+    List<ActionItem> findByOwner(@Param("personId") Long personId, Limit limit);
+
+    // Backfill of rows written before owners were normalized
+    @Query("select a from ActionItem a where a.ownerPerson is null and a.owner <> '' and a.id > :after order by a.id")
+    List<ActionItem> findUnlinkedOwners(@Param("after") Long after, Limit limit);
+
+    // Backfill of due dates for rows written before they were resolved; each row is attempted once
+    @Query("select a from ActionItem a join fetch a.meeting " +
+            "where a.dueResolved is null and a.dueOn is null and a.dueDate <> '' and a.id > :after order by a.id")
+    List<ActionItem> findUnresolvedDueDates(@Param("after") Long after, Limit limit);
+
+    @Modifying
+    @Query("update ActionItem a set a.status = com.meetingnotes.meetingnotestracker.model.ActionItem.Status.OPEN where a.status is null")
+    int defaultMissingStatus();
+
+    /** Every action item in meeting order, for the archive export (merged with MeetingRepo.streamArchive). */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.meetingnotes.meetingnotestracker.model.ArchivedActionItem(" +
+            "a.meeting.id, a.owner, a.task, a.dueDate, a.dueOn, a.status) from ActionItem a order by a.meeting.id, a.id")
+    Stream<ArchivedActionItem> streamArchive();
+}
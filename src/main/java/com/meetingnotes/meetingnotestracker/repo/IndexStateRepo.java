@@ -0,0 +1,7 @@
+package com.meetingnotes.meetingnotestracker.repo;
+
+import com.meetingnotes.meetingnotestracker.model.IndexState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IndexStateRepo extends JpaRepository<IndexState, String> {
+}
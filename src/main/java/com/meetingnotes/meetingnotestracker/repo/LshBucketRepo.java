@@ -0,0 +1,21 @@
+package com.meetingnotes.meetingnotestracker.repo;
+
+import com.meetingnotes.meetingnotestracker.model.LshBucket;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface LshBucketRepo extends JpaRepository<LshBucket, Long> {
+
+    /** Newest meetings filed under one bucket; a range scan of the (bucket, meeting_id) index. */
+    @Query("select b.meetingId from LshBucket b where b.bucket = :bucket order by b.meetingId desc")
+    List<Long> findMeetingIds(@Param("bucket") long bucket, Limit limit);
+
+    @Modifying
+    @Query("delete from LshBucket b where b.meetingId = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
+}
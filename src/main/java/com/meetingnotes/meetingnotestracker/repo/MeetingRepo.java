@@ -1,11 +1,67 @@
 package com.meetingnotes.meetingnotestracker.repo;
 
+import com.meetingnotes.meetingnotestracker.model.ArchivedMeeting;
 import com.meetingnotes.meetingnotestracker.model.Meeting;
+import com.meetingnotes.meetingnotestracker.model.MeetingSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface MeetingRepo extends JpaRepository<Meeting, Long> {
-    List<Meeting> findByTitleContainingIgnoreCaseOrTranscriptContainingIgnoreCase(String title, String transcript);
-    List<Meeting> findByAttendeesContainingIgnoreCase(String attendee);
+    String SUMMARY = "select new com.meetingnotes.meetingnotestracker.model.MeetingSummary(" +
+            "m.id, m.title, m.occurredAt, m.attendees, m.summary, size(m.actionItems)) from Meeting m ";
+
+    /** Detail view loads the action items in the same query. */
+    @Override
+    @EntityGraph(attributePaths = "actionItems")
+    Optional<Meeting> findById(Long id);
+
+    // Keyset pagination, newest first: pass the last id of the previous page as the cursor
+    @Query(SUMMARY + "order by m.id desc")
+    List<MeetingSummary> findLatestSummaries(Limit limit);
+
+    @Query(SUMMARY + "where m.id < :before order by m.id desc")
+    List<MeetingSummary> findSummariesBefore(@Param("before") Long before, Limit limit);
+
+    // Meetings attended by a person, via the meeting_attendee (person_id, meeting_id) index
+    @Query(SUMMARY + "join m.attendeePeople p where p.id = :personId order by m.id desc")
+    List<MeetingSummary> findLatestSummariesAttendedBy(@Param("personId") Long personId, Limit limit);
+
+    @Query(SUMMARY + "join m.attendeePeople p where p.id = :personId and m.id < :before order by m.id desc")
+    List<MeetingSummary> findSummariesAttendedByBefore(@Param("personId") Long personId, @Param("before") Long before, Limit limit);
+
+    // Backfill of rows written before attendees were normalized
+    @Query("select m from Meeting m where m.attendees <> '' and m.attendeePeople is empty and m.id > :after order by m.id")
+    List<Meeting> findUnlinkedAttendees(@Param("after") Long after, Limit limit);
+
+    // Keyset walk for index rebuilds, oldest first: pass the last id of the previous batch
+    @Query("select m from Meeting m where m.id > :after order by m.id")
+    List<Meeting> findAfter(@Param("after") Long after, Limit limit);
+
+    @Query("select m.id from Meeting m where m.id > :after order by m.id")
+    List<Long> findIdsAfter(@Param("after") Long after, Limit limit);
+
+    @Query(SUMMARY + "where m.id in :ids")
+    List<MeetingSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    /** Cursor over every summary; must be consumed inside a (read-only) transaction and closed. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(SUMMARY + "order by m.id desc")
+    Stream<MeetingSummary> streamSummaries();
+
+    /** Cursor over every meeting for the archive export, oldest first; same rules as streamSummaries. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.meetingnotes.meetingnotestracker.model.ArchivedMeeting(" +
+            "m.id, m.title, m.occurredAt, m.attendees, m.summary, m.decisions) from Meeting m order by m.id")
+    Stream<ArchivedMeeting> streamArchive();
 }
@@ -0,0 +1,32 @@
+package com.meetingnotes.meetingnotestracker.repo;
+
+import com.meetingnotes.meetingnotestracker.model.MeetingSignature;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MeetingSignatureRepo extends JpaRepository<MeetingSignature, Long> {
+
+    /** Signature without entity bookkeeping; enough for similarity estimates. */
+    interface SignatureView {
+        Long getMeetingId();
+        byte[] getMinhashes();
+    }
+
+    Optional<MeetingSignature> findFirstByOrderByMeetingIdAsc();
+
+    @Query("select s.meetingId as meetingId, s.minhashes as minhashes from MeetingSignature s where s.meetingId in :ids")
+    List<SignatureView> findViews(@Param("ids") Collection<Long> ids);
+
+    @Query("select s.meetingId from MeetingSignature s where s.meetingId in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from MeetingSignature s where s.meetingId = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
+}
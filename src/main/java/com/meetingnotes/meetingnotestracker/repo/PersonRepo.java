@@ -0,0 +1,13 @@
+package com.meetingnotes.meetingnotestracker.repo;
+
+import com.meetingnotes.meetingnotestracker.model.Person;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface PersonRepo extends JpaRepository<Person, Long> {
+    Optional<Person> findByNormalizedName(String normalizedName);
+    List<Person> findByNormalizedNameIn(Collection<String> normalizedNames);
+}
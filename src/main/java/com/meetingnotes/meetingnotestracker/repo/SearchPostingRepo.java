@@ -0,0 +1,63 @@
+package com.meetingnotes.meetingnotestracker.repo;
+
+import com.meetingnotes.meetingnotestracker.model.SearchPosting;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface SearchPostingRepo extends JpaRepository<SearchPosting, Long> {
+
+    /** Posting without its positions blob; enough for ranking. */
+    interface PostingView {
+        Long getMeetingId();
+        SearchPosting.Field getField();
+        int getTf();
+    }
+
+    interface TermCount {
+        String getTerm();
+        long getDocuments();
+    }
+
+    @Query("select count(distinct p.meetingId) from SearchPosting p")
+    long indexedDocuments();
+
+    /**
+     * A term's postings, newest meetings first; search seeds from these. Ordering by both index columns
+     * lets H2 read the (term, meeting_id) index backwards and stop at the limit instead of sorting them all.
+     */
+    @Query("select p.meetingId as meetingId, p.field as field, p.tf as tf from SearchPosting p " +
+            "where p.term = :term order by p.term desc, p.meetingId desc")
+    List<PostingView> findNewestViewsByTerm(@Param("term") String term, Limit limit);
+
+    // The range (the smallest and largest of ids) bounds the index scan to the candidates' span of the term's
+    // postings; the in-list alone is only a filter, so every posting of a common term would be read
+    @Query("select p.meetingId as meetingId, p.field as field, p.tf as tf from SearchPosting p " +
+            "where p.term = :term and p.meetingId between :lo and :hi and p.meetingId in :ids")
+    List<PostingView> findViewsByTermAndMeetingIds(@Param("term") String term, @Param("lo") Long lo, @Param("hi") Long hi,
+                                                   @Param("ids") Collection<Long> ids);
+
+    /** Meetings per term within one field (there is one posting per meeting, field and term); seeds CorpusStats. */
+    @Query("select p.term as term, count(p) as documents from SearchPosting p where p.field = :field group by p.term")
+    List<TermCount> countDocumentsByTerm(@Param("field") SearchPosting.Field field);
+
+    @Query("select p.term from SearchPosting p where p.meetingId = :meetingId and p.field = :field")
+    List<String> findTerms(@Param("meetingId") Long meetingId, @Param("field") SearchPosting.Field field);
+
+    @Query("select p from SearchPosting p where p.term = :term and p.meetingId between :lo and :hi and p.meetingId in :ids")
+    List<SearchPosting> findByTermAndMeetingIds(@Param("term") String term, @Param("lo") Long lo, @Param("hi") Long hi,
+                                                @Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from SearchPosting p where p.meetingId = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
+
+    @Modifying
+    @Query("delete from SearchPosting p where p.meetingId in :meetingIds")
+    int deleteByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds);
+}
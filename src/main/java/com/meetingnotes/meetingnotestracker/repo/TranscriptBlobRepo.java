@@ -0,0 +1,14 @@
+package com.meetingnotes.meetingnotestracker.repo;
+
+import com.meetingnotes.meetingnotestracker.model.TranscriptBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TranscriptBlobRepo extends JpaRepository<TranscriptBlob, Long> {
+
+    @Modifying
+    @Query("delete from TranscriptBlob b where b.meetingId = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
+}
@@ -0,0 +1,143 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.meetingnotes.meetingnotestracker.model.ActionItem;
+import com.meetingnotes.meetingnotestracker.repo.ActionItemRepo;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Action items across meetings: filtered, keyset-paginated listings and status/due-date edits.
+ * Date-range listings are ordered by (dueOn, id) and served by the due_on indexes; without a range
+ * items come newest first, like the other listings.
+ */
+@Service
+public class ActionItemService {
+
+    private static final Logger log = LoggerFactory.getLogger(ActionItemService.class);
+    private static final int BACKFILL_BATCH = 200;
+
+    private final ActionItemRepo repo;
+    private final DueDateResolver dueDates;
+    private final MeetingPayloadCache payloads;
+    private final TransactionTemplate tx;
+
+    public ActionItemService(ActionItemRepo repo, DueDateResolver dueDates, MeetingPayloadCache payloads,
+                             TransactionTemplate tx) {
+        this.repo = repo;
+        this.dueDates = dueDates;
+        this.payloads = payloads;
+        this.tx = tx;
+    }
+
+    /**
+     * Listing filters; null means "any". {@code after} is the nextCursor of the previous page:
+     * "dueOn:id" for date-range listings, "id" otherwise.
+     */
+    public record Filter(LocalDate from, LocalDate to, Long ownerId, ActionItem.Status status, String after, int limit) {
+        boolean byDueDate() { return from != null || to != null; }
+    }
+
+    public record Page(List<ActionItem> items, String nextCursor) {}
+
+    @Transactional(readOnly = true)
+    public Page find(Filter f) {
+        LocalDate afterDue = null;
+        long afterId = 0;
+        if (f.after() != null) {
+            try {
+                int sep = f.after().indexOf(':');
+                if (f.byDueDate() != sep > 0) throw new IllegalArgumentException();
+                if (sep > 0) afterDue = LocalDate.parse(f.after().substring(0, sep));
+                afterId = Long.parseLong(f.after().substring(sep + 1));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + f.after());
+            }
+        }
+        LocalDate cursorDue = afterDue;
+        long cursorId = afterId;
+        Specification<ActionItem> spec = (root, query, cb) -> {
+            List<Predicate> where = new ArrayList<>();
+            if (f.ownerId() != null) where.add(cb.equal(root.get("ownerPerson").get("id"), f.ownerId()));
+            if (f.status() != null) where.add(cb.equal(root.get("status"), f.status()));
+            Path<Long> id = root.get("id");
+            if (f.byDueDate()) {
+                Path<LocalDate> due = root.get("dueOn");
+                if (f.from() != null) where.add(cb.greaterThanOrEqualTo(due, f.from()));
+                if (f.to() != null) where.add(cb.lessThanOrEqualTo(due, f.to()));
+                if (cursorDue != null) {
+                    where.add(cb.or(cb.greaterThan(due, cursorDue),
+                            cb.and(cb.equal(due, cursorDue), cb.greaterThan(id, cursorId))));
+                }
+            } else if (f.after() != null) {
+                where.add(cb.lessThan(id, cursorId));
+            }
+            return cb.and(where.toArray(Predicate[]::new));
+        };
+        Sort sort = f.byDueDate() ? Sort.by("dueOn", "id") : Sort.by(Sort.Direction.DESC, "id");
+        List<ActionItem> items = repo.findBy(spec, q -> q.sortBy(sort).limit(f.limit()).all());
+        String next = null;
+        if (items.size() == f.limit()) {
+            ActionItem last = items.get(items.size() - 1);
+            next = f.byDueDate() ? last.getDueOn() + ":" + last.getId() : String.valueOf(last.getId());
+        }
+        return new Page(items, next);
+    }
+
+    /** Changes status and/or the due text (re-resolved against the meeting date); null leaves a field as is. */
+    @Transactional
+    public Optional<ActionItem> update(Long id, ActionItem.Status status, String dueDate) {
+        return repo.findById(id).map(a -> {
+            if (status != null) a.setStatus(status);
+            if (dueDate != null) {
+                a.setDueDate(dueDate.trim());
+                a.setDueOn(dueDates.resolve(a.getDueDate(), a.getMeeting() == null ? null : a.getMeeting().getOccurredAt()));
+            }
+            if (a.getMeeting() != null) payloads.evict(a.getMeeting().getId()); // the meeting JSON embeds its items
+            return a;
+        });
+    }
+
+    /**
+     * Migration for rows saved before due dates were resolved; runs in small transactions. Rows are marked
+     * resolved even when their text names no date, so those are not read again on the next startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillDueDates() {
+        long resolved = 0, after = 0;
+        while (true) {
+            long from = after;
+            long[] batch = tx.execute(s -> {
+                List<ActionItem> items = repo.findUnresolvedDueDates(from, Limit.of(BACKFILL_BATCH));
+                long n = 0;
+                for (ActionItem a : items) {
+                    a.setDueOn(dueDates.resolve(a.getDueDate(), a.getMeeting().getOccurredAt()));
+                    a.setDueResolved(Boolean.TRUE);
+                    if (a.getDueOn() != null) {
+                        n++;
+                        payloads.evict(a.getMeeting().getId());
+                    }
+                }
+                return items.isEmpty() ? null : new long[]{items.get(items.size() - 1).getId(), n};
+            });
+            if (batch == null) break;
+            after = batch[0];
+            resolved += batch[1];
+        }
+        if (resolved > 0) log.info("Resolved due dates for {} action items", resolved);
+    }
+}
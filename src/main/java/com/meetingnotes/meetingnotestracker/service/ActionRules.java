@@ -0,0 +1,501 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Action-item extraction rules as data, compiled once into phrase matchers that walk a sentence
+ * left to right by index. Every rule reproduces the regular expression it replaced, including
+ * which match wins (see LegacyActionRules in the tests, kept as the regression oracle), but runs in
+ * linear time: no backtracking, no per-call Pattern compilation, and substrings are only cut for
+ * the parts that end up in an action item.
+ *
+ * Phrase syntax: words separated by single spaces match words separated by any run of whitespace;
+ * "a|b" lists alternatives (first that fits wins); {owner} is the given owner name and {verb} any
+ * run of ASCII letters. Matching is ASCII case-insensitive and phrases end on a word boundary.
+ */
+final class ActionRules {
+
+    private ActionRules() {}
+
+    /** Captured parts of a rule: owner name, the verb (or assigned object) and the rest up to the next '.'. */
+    record Match(String owner, String head, String tail) {}
+
+    // ---- rule set; order is significant wherever alternatives are listed ----
+
+    // "<Name> will|should|must <verb> ..."
+    private static final String[] MODALS = {"will", "should", "must"};
+
+    // "I/We/Please ask/Need/Want ... <Name> to <verb> ..."
+    private static final Phrase[] REQUEST_CUES = compile("i", "we", "please ask", "ask", "asked", "request", "requested",
+            "require", "required", "need", "needs", "want", "wants");
+
+    // "assign|assigning|assigned <what> to <Name> ..."
+    private static final String ASSIGN = "assign";
+    private static final String[] ASSIGN_SUFFIXES = {"ing", "ed"};
+
+    // "by|before|on <Month 15>|<1/2>|tomorrow|today|next week|EOW|EOD"
+    private static final String[] DUE_CUES = {"by", "before", "on"};
+    private static final Phrase[] DUE_WORDS = compile("tomorrow", "today", "next week", "eow", "eod");
+
+    // Leading fillers and echoes of the request itself, stripped from the captured rest
+    private static final String[] LEAD_FILLERS = {"and", "but", "so", "then", "also"};
+    private static final Phrase[] ECHOES = compile(
+            "i want {owner} to {verb}",
+            "and i want {owner} to {verb}",
+            "we need|want|ask|asked|request|requested|require|required {owner} to {verb}");
+
+    // Pronoun resolution, applied in order; "%s" is the current task context
+    private static final Phrase[] PRONOUNS = compile("pick it up", "take it up", "work on it", "handle it",
+            "this task", "this work", "the task", "the work", "it");
+    private static final String[] PRONOUN_REPLACEMENTS = {"pick up %s", "take up %s", "work on %s", "handle %s",
+            "%s", "%s", "%s", "%s", "%s"};
+
+    // Task context: a topic word (anywhere, even inside a longer word) and what follows up to , ; or .
+    private static final String[] CONTEXT_HEADS = {"backend", "frontend", "api", "project", "feature", "task", "work",
+            "development", "migration"};
+    private static final String[] CONTEXT_FILLERS = {"we", "i", "have", "has", "some", "the", "our"}; // case-sensitive
+    private static final int CONTEXT_FALLBACK_WORDS = 6;
+
+    // ---- rules ----
+
+    /** "<Name> will|should|must <verb> <rest>": the first one in the sentence. */
+    static Match nameWillVerb(String s) {
+        int n = s.length();
+        for (int g = 0; g < n; g++) {
+            if (!isAsciiLetter(s.charAt(g)) || !isBoundary(s, g)) continue;
+            int nameEnd = letters(s, g);
+            Match m = nameWillVerbAt(s, g, nameEnd);
+            if (m != null) return m;
+            g = nameEnd - 1; // no word boundary inside a run of letters
+        }
+        return null;
+    }
+
+    private static Match nameWillVerbAt(String s, int g, int nameEnd) {
+        if (nameEnd - g < 2) return null;
+        int a = spaces(s, nameEnd);
+        if (a == nameEnd) return null;
+        int b = -1;
+        for (String modal : MODALS) {
+            if (startsWith(s, a, modal)) { b = a + modal.length(); break; }
+        }
+        if (b < 0) return null;
+        int c = spaces(s, b);
+        if (c == b) return null;
+        int verbEnd = letters(s, c);
+        if (verbEnd == c || !isBoundary(s, verbEnd)) return null;
+        return new Match(s.substring(g, nameEnd), s.substring(c, verbEnd), restOfClause(s, verbEnd));
+    }
+
+    /** "I/We/Need/Want/Ask ... <Name> to <verb> <rest>": earliest cue, then the nearest name after it on the same line. */
+    static Match request(String s) {
+        int n = s.length();
+        for (int p = 0; p < n; p++) {
+            if (!isAsciiLetter(s.charAt(p)) || !isBoundary(s, p)) continue;
+            int cueEnd = -1;
+            for (Phrase cue : REQUEST_CUES) {
+                if ((cueEnd = cue.match(s, p, null)) >= 0) break;
+            }
+            if (cueEnd < 0) continue;
+            // Any text may sit between cue and name, but not a line break
+            for (int g = cueEnd; ; g++) {
+                if (g >= n) return null; // later cues only see a subset of this window
+                char c = s.charAt(g);
+                if (isLineTerminator(c)) { p = g; break; }
+                if (!isAsciiLetter(c) || !isBoundary(s, g)) continue;
+                int nameEnd = letters(s, g);
+                Match m = nameToVerbAt(s, g, nameEnd);
+                if (m != null) return m;
+                g = nameEnd - 1;
+            }
+        }
+        return null;
+    }
+
+    private static Match nameToVerbAt(String s, int g, int nameEnd) {
+        if (nameEnd - g < 2) return null;
+        int a = spaces(s, nameEnd);
+        if (a == nameEnd || !startsWith(s, a, "to")) return null;
+        int b = spaces(s, a + 2);
+        if (b == a + 2) return null;
+        int verbEnd = letters(s, b);
+        if (verbEnd == b || !isBoundary(s, verbEnd)) return null;
+        return new Match(s.substring(g, nameEnd), s.substring(b, verbEnd), restOfClause(s, verbEnd));
+    }
+
+    /** "assign(ing|ed) <what> to <Name> <rest>": the shortest <what> for the earliest "assign". */
+    static Match assignTo(String s) {
+        int n = s.length();
+        int exhaustedUntil = -1; // objects starting before this position were already searched without success
+        for (int p = 0; p + ASSIGN.length() <= n; p++) {
+            if (!startsWith(s, p, ASSIGN) || !isBoundary(s, p)) continue;
+            int q = p + ASSIGN.length();
+            for (String suffix : ASSIGN_SUFFIXES) {
+                if (startsWith(s, q, suffix) && q + suffix.length() < n && isSpace(s.charAt(q + suffix.length()))) {
+                    q += suffix.length();
+                    break;
+                }
+            }
+            int r = spaces(s, q);
+            if (r == q) continue;
+
+            // The object starts after all the whitespace and ends where "<ws> to <ws> <Name>" follows
+            if (r >= exhaustedUntil) {
+                int e = r + 1;
+                for (; e < n; e++) {
+                    if (isLineTerminator(s.charAt(e - 1))) break;
+                    if (!isSpace(s.charAt(e)) || isSpace(s.charAt(e - 1))) continue;
+                    int[] owner = toName(s, e);
+                    if (owner != null) {
+                        return new Match(s.substring(owner[0], owner[1]), s.substring(r, e), restOfClause(s, owner[1]));
+                    }
+                }
+                exhaustedUntil = e;
+            }
+            // Backtracking fallback: "assign   to Name" with 3+ spaces leaves one space as the object
+            int[] owner = toName(s, r - 1);
+            if (owner != null) {
+                for (int k = 2; k <= r - q - 1; k++) {
+                    if (!isLineTerminator(s.charAt(r - k))) {
+                        return new Match(s.substring(owner[0], owner[1]), s.substring(r - k, r - k + 1),
+                                restOfClause(s, owner[1]));
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /** "<ws> to <ws> <Name>\b" starting at whitespace position e; returns the name's bounds. */
+    private static int[] toName(String s, int e) {
+        int j = spaces(s, e);
+        if (j == e || !startsWith(s, j, "to")) return null;
+        int k = spaces(s, j + 2);
+        if (k == j + 2) return null;
+        int nameEnd = letters(s, k);
+        if (nameEnd - k < 2 || !isBoundary(s, nameEnd)) return null;
+        return new int[]{k, nameEnd};
+    }
+
+    /** First due-date hint in the sentence ("by Friday 5", "on 8/15", "before EOW"...), or "". */
+    static String due(String s) {
+        int n = s.length();
+        for (int p = 0; p < n; p++) {
+            if (!isAsciiLetter(s.charAt(p)) || !isBoundary(s, p)) continue;
+            int a = -1;
+            for (String cue : DUE_CUES) {
+                int end = p + cue.length();
+                if (startsWith(s, p, cue) && end < n && isSpace(s.charAt(end))) { a = spaces(s, end); break; }
+            }
+            if (a < 0) continue;
+            int end = dueValue(s, a);
+            if (end >= 0) return s.substring(p, end);
+        }
+        return "";
+    }
+
+    private static int dueValue(String s, int a) {
+        int n = s.length();
+        // <letters><optional single space><1-2 digits>, e.g. "Aug 15", "Sprint3"
+        int l = letters(s, a);
+        if (l > a) {
+            int y = l < n && isSpace(s.charAt(l)) ? l + 1 : l;
+            int d = digits(s, y);
+            if (d - y >= 1 && d - y <= 2 && isBoundary(s, d)) return d;
+        }
+        // <1-2 digits>/<1-2 digits>
+        int d1 = digits(s, a);
+        if (d1 - a >= 1 && d1 - a <= 2 && d1 < n && s.charAt(d1) == '/') {
+            int d2 = digits(s, d1 + 1);
+            if (d2 - d1 - 1 >= 1 && d2 - d1 - 1 <= 2 && isBoundary(s, d2)) return d2;
+        }
+        for (Phrase w : DUE_WORDS) {
+            int end = w.match(s, a, null);
+            if (end >= 0) return end;
+        }
+        return -1;
+    }
+
+    /** Drops a leading filler word and an echo of the request ("I want Bob to fix ...") from a captured rest. */
+    static String sanitizeRest(String rest, String owner) {
+        if (rest == null) return "";
+        String r = rest.trim();
+        for (String filler : LEAD_FILLERS) {
+            int end = filler.length();
+            if (startsWith(r, 0, filler) && end < r.length() && isSpace(r.charAt(end))) {
+                r = r.substring(spaces(r, end));
+                break;
+            }
+        }
+        for (Phrase echo : ECHOES) {
+            int end = echo.match(r, 0, owner);
+            if (end >= 0) r = r.substring(spaces(r, end));
+        }
+        return r.trim();
+    }
+
+    /** Replaces "it", "this task", "pick it up"... with the task context, one rule after the other. */
+    static String resolvePronouns(String phrase, String context) {
+        if (phrase == null || phrase.isEmpty()) return phrase;
+        if (context == null || context.isEmpty()) return phrase;
+        String out = phrase;
+        for (int rule = 0; rule < PRONOUNS.length; rule++) {
+            out = replaceWords(out, PRONOUNS[rule], PRONOUN_REPLACEMENTS[rule].replace("%s", context));
+        }
+        return collapseSpaces(out).trim();
+    }
+
+    /** Trailing sentence punctuation removed (also before a final line terminator), then trimmed. */
+    static String stripEndPunct(String s) {
+        if (s == null) return "";
+        int n = s.length();
+        // Where "$" can match: the end, before a final line terminator, or before a final \r\n
+        int[] ends = {n, n >= 1 && isFinalLineTerminator(s, n - 1) ? n - 1 : -1,
+                n >= 2 && s.charAt(n - 2) == '\r' && s.charAt(n - 1) == '\n' ? n - 2 : -1};
+        int cutFrom = -1, cutTo = -1;
+        for (int end : ends) {
+            if (end <= 0 || !isEndPunct(s.charAt(end - 1))) continue;
+            int start = end;
+            while (start > 0 && isEndPunct(s.charAt(start - 1))) start--;
+            if (cutFrom < 0 || start < cutFrom) { cutFrom = start; cutTo = end; }
+        }
+        String out = cutFrom < 0 ? s : s.substring(0, cutFrom) + s.substring(cutTo);
+        return out.trim();
+    }
+
+    /** Concise task context from a sentence that mentions a task: "backend development work this sprint". */
+    static String conciseContext(String sentence) {
+        int n = sentence.length();
+        for (int p = 0; p < n; p++) {
+            for (String head : CONTEXT_HEADS) {
+                int headEnd = p + head.length();
+                if (!startsWith(sentence, p, head) || !isBoundary(sentence, headEnd)) continue;
+                int tailEnd = headEnd;
+                while (tailEnd < n && ".,;".indexOf(sentence.charAt(tailEnd)) < 0) tailEnd++;
+                String headText = sentence.substring(p, headEnd), tail = sentence.substring(headEnd, tailEnd);
+                String ctx = collapseSpaces(removeFillers(headText + tail)).trim();
+                return ctx.isEmpty() ? (headText + " " + tail).trim() : ctx;
+            }
+        }
+        // Fallback: the last few words, without sentence punctuation
+        StringBuilder sb = new StringBuilder(n);
+        for (int i = 0; i < n; i++) {
+            char c = sentence.charAt(i);
+            if (!isEndPunct(c)) sb.append(c);
+        }
+        String t = sb.toString().trim();
+        int end = t.length(), words = 0, start = end;
+        while (words < CONTEXT_FALLBACK_WORDS && end > 0) {
+            start = end;
+            while (start > 0 && !isSpace(t.charAt(start - 1))) start--;
+            words++;
+            if (start == 0) break;
+            end = start;
+            while (end > 0 && isSpace(t.charAt(end - 1))) end--;
+        }
+        return joinWords(t, start);
+    }
+
+    // ---- phrase matching ----
+
+    /** A compiled phrase: per word, its alternatives; null alternatives stand for {owner} or {verb}. */
+    private record Phrase(String[][] words, boolean[] isOwner) {
+
+        /** End of the phrase matched at {@code i} (word boundary after it), or -1. */
+        int match(String s, int i, String owner) {
+            int pos = i;
+            for (int w = 0; w < words.length; w++) {
+                boolean last = w == words.length - 1;
+                int end = -1;
+                if (isOwner[w]) {
+                    if (owner != null && startsWith(s, pos, owner)) end = pos + owner.length();
+                    if (end >= 0 && !(last ? isBoundary(s, end) : end < s.length() && isSpace(s.charAt(end)))) end = -1;
+                } else if (words[w] == null) { // {verb}
+                    int l = letters(s, pos);
+                    if (l > pos && (last ? isBoundary(s, l) : l < s.length() && isSpace(s.charAt(l)))) end = l;
+                } else {
+                    for (String alt : words[w]) {
+                        int e = pos + alt.length();
+                        if (startsWith(s, pos, alt) && (last ? isBoundary(s, e) : e < s.length() && isSpace(s.charAt(e)))) {
+                            end = e;
+                            break;
+                        }
+                    }
+                }
+                if (end < 0) return -1;
+                pos = last ? end : spaces(s, end);
+            }
+            return pos;
+        }
+    }
+
+    private static Phrase[] compile(String... phrases) {
+        Phrase[] out = new Phrase[phrases.length];
+        for (int i = 0; i < phrases.length; i++) {
+            String[] tokens = phrases[i].split(" ");
+            String[][] words = new String[tokens.length][];
+            boolean[] isOwner = new boolean[tokens.length];
+            for (int t = 0; t < tokens.length; t++) {
+                switch (tokens[t]) {
+                    case "{owner}" -> isOwner[t] = true;
+                    case "{verb}" -> words[t] = null;
+                    default -> words[t] = tokens[t].split("\\|");
+                }
+            }
+            out[i] = new Phrase(words, isOwner);
+        }
+        return out;
+    }
+
+    /** Every whole-word, non-overlapping match of the phrase replaced, scanning left to right. */
+    private static String replaceWords(String s, Phrase phrase, String replacement) {
+        StringBuilder sb = null;
+        int copied = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (!isBoundary(s, i)) continue;
+            int end = phrase.match(s, i, null);
+            if (end < 0) continue;
+            if (sb == null) sb = new StringBuilder(s.length() + replacement.length());
+            sb.append(s, copied, i).append(replacement);
+            copied = end;
+            i = end - 1;
+        }
+        return sb == null ? s : sb.append(s, copied, s.length()).toString();
+    }
+
+    /** Case-sensitive removal of filler words ("the", "our"...) wherever they stand as whole words. */
+    private static String removeFillers(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        int i = 0;
+        outer:
+        while (i < s.length()) {
+            if (isBoundary(s, i)) {
+                for (String f : CONTEXT_FILLERS) {
+                    if (s.startsWith(f, i) && isBoundary(s, i + f.length())) {
+                        i += f.length();
+                        continue outer;
+                    }
+                }
+            }
+            sb.append(s.charAt(i++));
+        }
+        return sb.toString();
+    }
+
+    /** Runs of two or more whitespace chars become one space. */
+    private static String collapseSpaces(String s) {
+        StringBuilder sb = null;
+        int copied = 0;
+        for (int i = 0; i < s.length(); ) {
+            int end = spaces(s, i);
+            if (end - i >= 2) {
+                if (sb == null) sb = new StringBuilder(s.length());
+                sb.append(s, copied, i).append(' ');
+                copied = end;
+            }
+            i = Math.max(end, i + 1);
+        }
+        return sb == null ? s : sb.append(s, copied, s.length()).toString();
+    }
+
+    private static String joinWords(String t, int from) {
+        List<String> words = new ArrayList<>();
+        int i = from;
+        while (i < t.length()) {
+            int end = i;
+            while (end < t.length() && !isSpace(t.charAt(end))) end++;
+            words.add(t.substring(i, end));
+            i = spaces(t, end);
+        }
+        return String.join(" ", words).trim();
+    }
+
+    // ---- character classes, with java.util.regex semantics ----
+
+    /** Rest of the clause: everything up to (not including) the next '.'. */
+    private static String restOfClause(String s, int from) {
+        int dot = s.indexOf('.', from);
+        return s.substring(from, dot < 0 ? s.length() : dot);
+    }
+
+    /** ASCII case-insensitive literal match; {@code lit} is lower-case. */
+    private static boolean startsWith(String s, int i, String lit) {
+        if (i < 0 || i + lit.length() > s.length()) return false;
+        for (int k = 0; k < lit.length(); k++) {
+            char c = s.charAt(i + k), l = lit.charAt(k);
+            if (c != l && toLowerAscii(c) != toLowerAscii(l)) return false;
+        }
+        return true;
+    }
+
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /** \s */
+    static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+
+    /** Chars that "." does not match. */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isFinalLineTerminator(String s, int i) {
+        char c = s.charAt(i);
+        if (c == '\n') return i == 0 || s.charAt(i - 1) != '\r';
+        return c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    private static boolean isEndPunct(char c) {
+        return c == '.' || c == '?' || c == '!';
+    }
+
+    private static int letters(String s, int i) {
+        while (i < s.length() && isAsciiLetter(s.charAt(i))) i++;
+        return i;
+    }
+
+    private static int digits(String s, int i) {
+        while (i < s.length() && s.charAt(i) >= '0' && s.charAt(i) <= '9') i++;
+        return i;
+    }
+
+    private static int spaces(String s, int i) {
+        while (i < s.length() && isSpace(s.charAt(i))) i++;
+        return i;
+    }
+
+    /** \b as java.util.regex defines it on Java 17: word chars are letters, digits and '_' (Unicode). */
+    static boolean isBoundary(String s, int i) {
+        boolean left = false, right = false;
+        if (i > 0) {
+            int ch = Character.codePointBefore(s, i);
+            left = isWord(ch) || (Character.getType(ch) == Character.NON_SPACING_MARK && hasBaseCharacter(s, i - 1));
+        }
+        if (i < s.length()) {
+            int ch = Character.codePointAt(s, i);
+            right = isWord(ch) || (Character.getType(ch) == Character.NON_SPACING_MARK && hasBaseCharacter(s, i));
+        }
+        return left ^ right;
+    }
+
+    private static boolean isWord(int ch) {
+        return ch == '_' || Character.isLetterOrDigit(ch);
+    }
+
+    private static boolean hasBaseCharacter(String s, int i) {
+        for (int x = i; x >= 0; x--) {
+            int ch = Character.codePointAt(s, x);
+            if (Character.isLetterOrDigit(ch)) return true;
+            if (Character.getType(ch) != Character.NON_SPACING_MARK) return false;
+        }
+        return false;
+    }
+}
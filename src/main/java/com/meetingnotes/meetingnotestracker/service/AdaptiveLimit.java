@@ -0,0 +1,62 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+/**
+ * Concurrency limit that follows observed latency, in the style of a gradient limiter. Latency is
+ * normalized by transcript size (per KB, with a 1 KB floor) so a few large transcripts do not read as
+ * overload. A fast-moving average is compared with a slow baseline once per round (one sample per
+ * permit): while the recent latency stays within {@code tolerance} of the baseline the limit grows by one
+ * if it was fully used, and beyond that it shrinks in proportion, by at most half per round.
+ */
+final class AdaptiveLimit {
+
+    private static final double SHORT_WEIGHT = 0.2;
+    private static final double LONG_WEIGHT = 0.02;
+
+    private final int min;
+    private final int max;
+    private final double tolerance;
+    private double limit;
+    private double shortAvg = Double.NaN;
+    private double longAvg = Double.NaN;
+    private int samples;
+
+    AdaptiveLimit(int initial, int min, int max, double tolerance) {
+        this.min = Math.max(1, min);
+        this.max = Math.max(this.min, max);
+        this.tolerance = Math.max(1.0, tolerance);
+        this.limit = Math.min(this.max, Math.max(this.min, initial));
+    }
+
+    synchronized int limit() {
+        return (int) limit;
+    }
+
+    /** Records one completed task and returns the (possibly new) limit. */
+    synchronized int onSample(long nanos, long chars, int inFlight) {
+        double latency = nanos / Math.max(1.0, chars / 1024.0);
+        if (Double.isNaN(shortAvg)) {
+            shortAvg = longAvg = latency;
+        } else {
+            shortAvg += SHORT_WEIGHT * (latency - shortAvg);
+            longAvg += LONG_WEIGHT * (latency - longAvg);
+        }
+        if (++samples < (int) limit) return (int) limit;
+        samples = 0;
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longAvg / shortAvg));
+        double next = limit * gradient;
+        if (gradient == 1.0 && inFlight >= (int) limit) next += 1;
+        limit = Math.min(max, Math.max(min, next));
+        // A baseline measured under heavy load would hide the next overload; let it recover toward recent calm
+        if (shortAvg < longAvg) longAvg += SHORT_WEIGHT * (shortAvg - longAvg);
+        return (int) limit;
+    }
+
+    synchronized double baselineNanosPerKb() {
+        return longAvg;
+    }
+
+    synchronized double recentNanosPerKb() {
+        return shortAvg;
+    }
+}
@@ -0,0 +1,301 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Admission control for the CPU-heavy request paths (POST /analyze, POST /meetings). Work runs on its own
+ * bounded pool instead of Tomcat threads, so a burst of large transcripts cannot take the threads that
+ * serve cheap reads. In front of the pool:
+ * <ul>
+ *   <li>a token bucket per client: one token per request, plus one per {@code cost-chars} of transcript;
+ *       an empty bucket is a {@link Rejected} with status 429 and the seconds until it has refilled enough
+ *       (client-rate=0 turns this off);</li>
+ *   <li>a queue-depth limit: a full queue, a queue that would take longer than {@code max-queue-wait} to
+ *       reach a new task at the recent latency per KB of transcript, or a task that did wait that long before
+ *       starting, is a 503 with a Retry-After of the predicted wait;</li>
+ *   <li>an {@link AdaptiveLimit} that sizes the pool between min- and max-concurrency from observed latency.</li>
+ * </ul>
+ * Rejected requests cost no analysis work, so an overloaded server still answers them at once.
+ */
+@Service
+public class AnalysisAdmission {
+
+    private static final int MAX_RETRY_AFTER_SECONDS = 30;
+
+    /** Refused without running; the status is 429 (client over its rate) or 503 (server overloaded). */
+    public static final class Rejected extends RuntimeException {
+        private final int status;
+        private final long retryAfterSeconds;
+
+        Rejected(int status, long retryAfterSeconds, String message) {
+            super(message, null, false, false); // thrown on the hot path of an overload; no stack trace
+            this.status = status;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public int getStatus() { return status; }
+        public long getRetryAfterSeconds() { return retryAfterSeconds; }
+    }
+
+    private final ThreadPoolExecutor workers;
+    private final AdaptiveLimit limit;
+    private final int queueDepth;
+    private final long maxQueueWaitNanos;
+    private final double clientRate;
+    private final double clientBurst;
+    private final int costChars;
+    private final int maxClients;
+    private final String clientHeader;
+    // access-ordered; past max-clients the least recently seen client is dropped (a new one starts full anyway)
+    private final LinkedHashMap<String, TokenBucket> buckets = new LinkedHashMap<>(256, 0.75f, true);
+    // transcript KB (at least 1 per task) queued and running; with the recent latency per KB this predicts waits
+    private final AtomicLong queuedKb = new AtomicLong();
+    private final AtomicLong runningKb = new AtomicLong();
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder shedOnArrival = new LongAdder();
+    private final LongAdder shedQueueWait = new LongAdder();
+    private final LongAdder clientsEvicted = new LongAdder();
+
+    public AnalysisAdmission(@Value("${analysis.admission.max-concurrency:0}") int maxConcurrency,
+                             @Value("${analysis.admission.min-concurrency:1}") int minConcurrency,
+                             @Value("${analysis.admission.queue-depth:16}") int queueDepth,
+                             @Value("${analysis.admission.max-queue-wait:PT2S}") Duration maxQueueWait,
+                             @Value("${analysis.admission.latency-tolerance:1.5}") double latencyTolerance,
+                             @Value("${analysis.admission.client-rate:10}") double clientRate,
+                             @Value("${analysis.admission.client-burst:30}") double clientBurst,
+                             @Value("${analysis.admission.cost-chars:262144}") int costChars,
+                             @Value("${analysis.admission.max-clients:10000}") int maxClients,
+                             @Value("${analysis.admission.client-header:}") String clientHeader) {
+        int max = maxConcurrency > 0 ? maxConcurrency : Runtime.getRuntime().availableProcessors();
+        this.limit = new AdaptiveLimit(max, minConcurrency, max, latencyTolerance);
+        this.queueDepth = Math.max(1, queueDepth);
+        this.maxQueueWaitNanos = maxQueueWait.toNanos();
+        this.clientRate = clientRate;
+        this.clientBurst = Math.max(1, clientBurst);
+        this.costChars = Math.max(1, costChars);
+        this.maxClients = Math.max(1, maxClients);
+        this.clientHeader = clientHeader == null ? "" : clientHeader.trim();
+        AtomicInteger n = new AtomicInteger();
+        int threads = limit.limit();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(this.queueDepth), r -> {
+                    Thread t = new Thread(r, "analysis-" + n.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /** Request header that identifies clients for rate limiting (e.g. behind a proxy); empty means the peer address. */
+    public String clientHeader() {
+        return clientHeader;
+    }
+
+    /**
+     * Runs {@code work} on the analysis pool if the client has tokens and the server has room. Fails
+     * immediately with {@link Rejected} otherwise; the future also fails with it when the task is shed
+     * after waiting too long in the queue.
+     */
+    public <T> CompletableFuture<T> submit(String client, int chars, Callable<T> work) {
+        // capped at the burst so that one huge transcript is expensive but not impossible
+        double cost = Math.min(clientBurst, 1 + (double) chars / costChars);
+        TokenBucket bucket = clientRate > 0 ? bucket(client) : null;
+        long waitNanos = bucket == null ? 0 : bucket.take(cost);
+        if (waitNanos > 0) {
+            throttled.increment();
+            throw new Rejected(429, seconds(waitNanos), "Rate limit exceeded, retry later");
+        }
+
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+        long kb = kb(chars);
+        try {
+            // fail now rather than after queueing for longer than the task would be allowed to wait
+            if (expectedWaitNanos() > maxQueueWaitNanos) throw new RejectedExecutionException();
+            queuedKb.addAndGet(kb);
+            try {
+                workers.execute(() -> run(work, chars, queuedAt, result));
+            } catch (RejectedExecutionException e) {
+                queuedKb.addAndGet(-kb);
+                throw e;
+            }
+        } catch (RejectedExecutionException e) {
+            if (bucket != null) bucket.refund(cost); // not served, so not charged
+            shedOnArrival.increment();
+            throw overloaded();
+        }
+        admitted.increment();
+        return result;
+    }
+
+    /**
+     * Throws what {@link #submit} would throw now for an empty bucket or a full pool, without taking
+     * anything, so callers can refuse before reading a large request body.
+     */
+    public void precheck(String client) {
+        TokenBucket bucket = null;
+        if (clientRate > 0) {
+            synchronized (buckets) {
+                bucket = buckets.get(client);
+            }
+        }
+        long waitNanos = bucket == null ? 0 : bucket.waitFor(1);
+        if (waitNanos > 0) {
+            throttled.increment();
+            throw new Rejected(429, seconds(waitNanos), "Rate limit exceeded, retry later");
+        }
+        if (workers.getQueue().remainingCapacity() == 0 || expectedWaitNanos() > maxQueueWaitNanos) {
+            shedOnArrival.increment();
+            throw overloaded();
+        }
+    }
+
+    private <T> void run(Callable<T> work, int chars, long queuedAt, CompletableFuture<T> result) {
+        long started = System.nanoTime();
+        long kb = kb(chars);
+        queuedKb.addAndGet(-kb);
+        if (started - queuedAt > maxQueueWaitNanos) {
+            // the caller has likely given up; spend the time on requests that can still be answered
+            shedQueueWait.increment();
+            result.completeExceptionally(overloaded());
+            return;
+        }
+        runningKb.addAndGet(kb);
+        try {
+            result.complete(work.call());
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        } finally {
+            runningKb.addAndGet(-kb);
+            long took = System.nanoTime() - started;
+            resize(limit.onSample(took, chars, workers.getActiveCount()));
+        }
+    }
+
+    private synchronized void resize(int threads) {
+        if (threads == workers.getMaximumPoolSize()) return;
+        // the core size may never exceed the maximum, so the order depends on the direction
+        if (threads > workers.getMaximumPoolSize()) {
+            workers.setMaximumPoolSize(threads);
+            workers.setCorePoolSize(threads);
+        } else {
+            workers.setCorePoolSize(threads);
+            workers.setMaximumPoolSize(threads);
+        }
+    }
+
+    private Rejected overloaded() {
+        return new Rejected(503, seconds(expectedWaitNanos()), "Analysis capacity exhausted, retry later");
+    }
+
+    /**
+     * Until a task submitted now would start: zero with a worker free, else the queued transcripts (and
+     * about half of each running one) at the recent latency per KB, shared across the pool.
+     */
+    private long expectedWaitNanos() {
+        int threads = workers.getMaximumPoolSize();
+        if (workers.getActiveCount() < threads) return 0;
+        double nanosPerKb = limit.recentNanosPerKb();
+        if (Double.isNaN(nanosPerKb)) return 0; // nothing measured yet
+        return (long) ((queuedKb.get() + runningKb.get() / 2.0) * nanosPerKb / threads);
+    }
+
+    private static long kb(int chars) {
+        return Math.max(1, chars / 1024);
+    }
+
+    private static long seconds(long nanos) {
+        return Math.min(MAX_RETRY_AFTER_SECONDS, Math.max(1, (nanos + 999_999_999L) / 1_000_000_000L));
+    }
+
+    private TokenBucket bucket(String client) {
+        synchronized (buckets) {
+            TokenBucket b = buckets.get(client);
+            if (b != null) return b;
+            if (buckets.size() >= maxClients) {
+                Iterator<TokenBucket> eldest = buckets.values().iterator();
+                eldest.next();
+                eldest.remove();
+                clientsEvicted.increment();
+            }
+            b = new TokenBucket(clientRate, clientBurst);
+            buckets.put(client, b);
+            return b;
+        }
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("limit", workers.getMaximumPoolSize());
+        out.put("active", workers.getActiveCount());
+        out.put("queued", workers.getQueue().size());
+        out.put("queueDepth", queueDepth);
+        out.put("admitted", admitted.sum());
+        out.put("throttled", throttled.sum());
+        out.put("shedOnArrival", shedOnArrival.sum());
+        out.put("shedQueueWait", shedQueueWait.sum());
+        synchronized (buckets) {
+            out.put("clients", buckets.size());
+        }
+        out.put("clientsEvicted", clientsEvicted.sum());
+        out.put("queuedKb", queuedKb.get());
+        out.put("expectedWaitMs", expectedWaitNanos() / 1e6);
+        out.put("baselineMsPerKb", limit.baselineNanosPerKb() / 1e6);
+        out.put("recentMsPerKb", limit.recentNanosPerKb() / 1e6);
+        return out;
+    }
+
+    /** Refills continuously at {@code rate} tokens per second up to {@code burst}. */
+    static final class TokenBucket {
+        private final double rate;
+        private final double burst;
+        private double tokens;
+        private long refilledAt = System.nanoTime();
+
+        TokenBucket(double rate, double burst) {
+            this.rate = rate;
+            this.burst = burst;
+            this.tokens = burst;
+        }
+
+        /** Takes {@code cost} tokens and returns 0, or returns the nanos until there will be enough. */
+        synchronized long take(double cost) {
+            long wait = waitFor(cost);
+            if (wait == 0) tokens -= cost;
+            return wait;
+        }
+
+        /** Nanos until {@code cost} tokens are available, without taking them. */
+        synchronized long waitFor(double cost) {
+            refill();
+            return tokens >= cost ? 0 : (long) Math.ceil((cost - tokens) / rate * 1e9);
+        }
+
+        synchronized void refund(double cost) {
+            tokens = Math.min(burst, tokens + cost);
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            tokens = Math.min(burst, tokens + (now - refilledAt) / 1e9 * rate);
+            refilledAt = now;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Content-addressed cache of analysis results. Keys are a 128-bit MurmurHash3 of the trimmed
+ * transcript plus its length, so a lookup costs one pass over the text and no copy of it is kept.
+ * Entries are evicted least-recently-used once their estimated heap weight exceeds the budget.
+ *
+ * With analysis.cache.file set, entries are written there on shutdown and reloaded on startup,
+ * unless the lexicon they were computed with has changed since.
+ */
+@Service
+public class AnalysisCache {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisCache.class);
+    private static final int FORMAT = 1;
+
+    record Key(long hi, long lo, int length) {}
+
+    private record Entry(long hi, long lo, int length, Map<String, Object> result) {}
+
+    private record Snapshot(int format, String fingerprint, List<Entry> entries) {}
+
+    private final ObjectMapper mapper;
+    private final long maxWeight;
+    private final String file;
+    private final LinkedHashMap<Key, Map<String, Object>> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<Key, Long> weights = new HashMap<>();
+    private long weight;
+    private String fingerprint = "";
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public AnalysisCache(ObjectMapper mapper,
+                         @Value("${analysis.cache.max-weight:33554432}") long maxWeight,
+                         @Value("${analysis.cache.file:}") String file) {
+        this.mapper = mapper;
+        this.maxWeight = maxWeight;
+        this.file = file;
+    }
+
+    public boolean enabled() {
+        return maxWeight > 0;
+    }
+
+    /** Binds the cache to the analyzer configuration and loads persisted entries computed with the same one. */
+    void open(String fingerprint) {
+        this.fingerprint = fingerprint;
+        if (!enabled() || file.isBlank() || !Files.isRegularFile(Path.of(file))) return;
+        try {
+            Snapshot snapshot = mapper.readValue(Path.of(file).toFile(), Snapshot.class);
+            if (snapshot.format() != FORMAT || !fingerprint.equals(snapshot.fingerprint())) {
+                log.info("Ignoring analysis cache {}: written by a different analyzer configuration", file);
+                return;
+            }
+            synchronized (this) {
+                for (Entry e : snapshot.entries()) put(new Key(e.hi(), e.lo(), e.length()), immutable(e.result()));
+            }
+            log.info("Loaded {} cached analyses from {}", entries.size(), file);
+        } catch (IOException e) {
+            log.warn("Could not read analysis cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    /** Cached result for the (already trimmed) transcript, computing and storing it on a miss. */
+    public Map<String, Object> get(String cleaned, Function<String, Map<String, Object>> compute) {
+        Key key = key(cleaned);
+        synchronized (this) {
+            Map<String, Object> cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        }
+        misses.increment();
+        Map<String, Object> result = immutable(compute.apply(cleaned));
+        synchronized (this) {
+            put(key, result);
+        }
+        return result;
+    }
+
+    private void put(Key key, Map<String, Object> result) {
+        long w = weigh(result);
+        if (w > maxWeight / 8) return; // one huge transcript must not flush everything else
+        Long old = weights.put(key, w);
+        if (old != null) weight -= old;
+        entries.put(key, result);
+        weight += w;
+        Iterator<Map.Entry<Key, Map<String, Object>>> it = entries.entrySet().iterator();
+        while (weight > maxWeight && it.hasNext()) {
+            Key eldest = it.next().getKey();
+            it.remove();
+            weight -= weights.remove(eldest);
+            evictions.increment();
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weights.clear();
+        weight = 0;
+    }
+
+    public synchronized Map<String, Object> stats() {
+        long h = hits.sum(), m = misses.sum();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("enabled", enabled());
+        out.put("entries", entries.size());
+        out.put("weight", weight);
+        out.put("maxWeight", maxWeight);
+        out.put("hits", h);
+        out.put("misses", m);
+        out.put("evictions", evictions.sum());
+        out.put("hitRate", h + m == 0 ? 0.0 : (double) h / (h + m));
+        return out;
+    }
+
+    @PreDestroy
+    void save() {
+        if (!enabled() || file.isBlank()) return;
+        List<Entry> snapshot = new ArrayList<>();
+        synchronized (this) {
+            // LRU order, eldest first, so reloading restores recency
+            entries.forEach((k, v) -> snapshot.add(new Entry(k.hi(), k.lo(), k.length(), v)));
+        }
+        try {
+            Path target = Path.of(file).toAbsolutePath();
+            Files.createDirectories(target.getParent());
+            Path tmp = Files.createTempFile(target.getParent(), "analysis-cache", ".tmp");
+            mapper.writeValue(tmp.toFile(), new Snapshot(FORMAT, fingerprint, snapshot));
+            Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved {} cached analyses to {}", snapshot.size(), file);
+        } catch (IOException e) {
+            log.warn("Could not write analysis cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    // ---------- keys and weights ----------
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    /** MurmurHash3 x64 128 over the UTF-16 code units, eight chars per block. */
+    static Key key(CharSequence s) {
+        long h1 = 0, h2 = 0;
+        int n = s.length(), i = 0;
+        for (; i + 8 <= n; i += 8) {
+            long k1 = block(s, i), k2 = block(s, i + 4);
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+        long k1 = 0, k2 = 0;
+        int rem = n - i;
+        for (int j = 0; j < rem; j++) {
+            long c = s.charAt(i + j);
+            if (j < 4) k1 |= c << (16 * j);
+            else k2 |= c << (16 * (j - 4));
+        }
+        if (rem > 4) h2 ^= mixK2(k2);
+        if (rem > 0) h1 ^= mixK1(k1);
+        h1 ^= 2L * n;
+        h2 ^= 2L * n;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+        return new Key(h1, h2, n);
+    }
+
+    private static long block(CharSequence s, int i) {
+        return s.charAt(i) | (long) s.charAt(i + 1) << 16 | (long) s.charAt(i + 2) << 32 | (long) s.charAt(i + 3) << 48;
+    }
+
+    private static long mixK1(long k) {
+        return Long.rotateLeft(k * C1, 31) * C2;
+    }
+
+    private static long mixK2(long k) {
+        return Long.rotateLeft(k * C2, 33) * C1;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    /** Rough retained heap of a result: strings, lists and maps with JVM object overheads. */
+    static long weigh(Object o) {
+        if (o instanceof String s) return 40 + 2L * s.length();
+        if (o instanceof Collection<?> c) {
+            long w = 24 + 8L * c.size();
+            for (Object e : c) w += weigh(e);
+            return w;
+        }
+        if (o instanceof Map<?, ?> m) {
+            long w = 48 + 40L * m.size();
+            for (Map.Entry<?, ?> e : m.entrySet()) w += weigh(e.getKey()) + weigh(e.getValue());
+            return w;
+        }
+        return 16;
+    }
+
+    /** Shared results must not be mutated by callers. */
+    @SuppressWarnings("unchecked")
+    private static <T> T immutable(T o) {
+        if (o instanceof List<?> l) {
+            return (T) l.stream().map(AnalysisCache::immutable).toList();
+        }
+        if (o instanceof Map<?, ?> m) {
+            Map<Object, Object> copy = new LinkedHashMap<>();
+            m.forEach((k, v) -> copy.put(k, immutable(v)));
+            return (T) Collections.unmodifiableMap(copy);
+        }
+        return o;
+    }
+}
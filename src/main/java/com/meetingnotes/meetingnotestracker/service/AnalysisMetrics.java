@@ -0,0 +1,90 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import io.micrometer.core.instrument.*;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for the analysis pipeline: a timer per stage, the whole analysis timed by
+ * transcript size bucket and mode, and counters for sentences, pattern matches and action items.
+ * Outside Spring (tests, benchmarks) {@link #NOOP} is used; its meters record nothing.
+ */
+@Component
+public class AnalysisMetrics {
+
+    public enum Stage { SPLIT, SCAN, SUMMARY, DECISIONS, ACTIONS, RESOLVE_PRONOUNS }
+
+    /** Action-item patterns whose matches are counted. */
+    public enum Match { ASSIGNING_TO_NAME, WANT_NEED_ASK, NAME_WILL_VERB, DUE }
+
+    static final AnalysisMetrics NOOP = new AnalysisMetrics(new CompositeMeterRegistry());
+
+    static final double[] PERCENTILES = {0.5, 0.99};
+    private static final long[] SIZE_BUCKETS = {1_000, 10_000, 100_000, 1_000_000};
+
+    private final MeterRegistry registry;
+    private final Map<Stage, Timer> stages = new EnumMap<>(Stage.class);
+    private final Map<Match, Counter> matches = new EnumMap<>(Match.class);
+    private final Map<String, Timer> analyses = new ConcurrentHashMap<>();
+    private final DistributionSummary transcriptChars;
+    private final Counter sentences;
+    private final Counter actionItems;
+
+    public AnalysisMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        for (Stage s : Stage.values()) {
+            stages.put(s, Timer.builder("analysis.stage")
+                    .tag("stage", tagValue(s))
+                    .publishPercentiles(PERCENTILES)
+                    .register(registry));
+        }
+        for (Match m : Match.values()) {
+            matches.put(m, Counter.builder("analysis.pattern.matches").tag("pattern", tagValue(m)).register(registry));
+        }
+        this.transcriptChars = DistributionSummary.builder("analysis.transcript.chars")
+                .baseUnit("chars")
+                .publishPercentiles(PERCENTILES)
+                .register(registry);
+        this.sentences = Counter.builder("analysis.sentences").register(registry);
+        this.actionItems = Counter.builder("analysis.action.items").register(registry);
+    }
+
+    void stage(Stage stage, long nanos) {
+        stages.get(stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void match(Match pattern) {
+        matches.get(pattern).increment();
+    }
+
+    /** One finished analysis: its duration is filed under the transcript's size bucket so slow runs can be tied to input shape. */
+    void analyzed(int chars, int sentenceCount, int items, boolean parallel, long nanos) {
+        transcriptChars.record(chars);
+        sentences.increment(sentenceCount);
+        actionItems.increment(items);
+        String size = sizeBucket(chars);
+        String mode = parallel ? "parallel" : "sequential";
+        analyses.computeIfAbsent(size + '/' + mode, k -> Timer.builder("analysis.duration")
+                .tag("size", size)
+                .tag("mode", mode)
+                .publishPercentiles(PERCENTILES)
+                .register(registry)).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    static String sizeBucket(int chars) {
+        for (long limit : SIZE_BUCKETS) {
+            if (chars < limit) return "<" + (limit >= 1_000_000 ? limit / 1_000_000 + "M" : limit / 1_000 + "k");
+        }
+        return ">=1M";
+    }
+
+    private static String tagValue(Enum<?> e) {
+        return e.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
@@ -1,9 +1,11 @@
 package com.meetingnotes.meetingnotestracker.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
-import java.util.regex.Matcher;
+import java.util.stream.IntStream;
 import java.util.regex.Pattern;
 
 @Service
@@ -23,24 +25,140 @@ public class AnalysisService {
     private static final String[] WEEKDAYS = {"monday","tuesday","wednesday","thursday","friday","saturday","sunday"};
     private static final String[] MONTHS   = {"january","february","march","april","may","june","july","august","september","october","november","december"};
 
-    private boolean startsWithStopLead(String sentenceLower) {
-        String[] parts = sentenceLower.stripLeading().split("\\s+");
-        if (parts.length == 0) return false;
-        String first = parts[0];
-        if (STOP_LEADS.contains(first)) return true;
-        for (String d : WEEKDAYS) if (first.equals(d)) return true;
-        for (String m : MONTHS)  if (first.equals(m))  return true;
-        return false;
+    // One summary-lexicon hit is worth about one moderately distinctive term
+    private static final double LEXICON_WEIGHT = 1.0;
+    // Sentences with fewer content terms are normalized as if they had this many ("Thanks all.")
+    private static final int MIN_SCORED_TERMS = 4;
+
+    private static final Pattern SENTENCE_END = Pattern.compile("(?<=[.!?])\\s+");
+    private static final Pattern COMMA_CONJ = Pattern.compile("\\s*,\\s+(?=(And|But|So|Then|Also|I|We)\\b)");
+
+    // Default lexicons; each can be overridden with a comma-separated analysis.lexicon.* property
+    static final List<String> SUMMARY_KEYWORDS = List.of(
+            "goal","scope","timeline","deadline","risk","blocker","plan","decide","decision",
+            "agree","deliver","owner","next","milestone","priority","kpi","backend","development","project");
+    static final List<String> DECISION_KEYS = List.of(
+            "decided","decision","approve","approved","agree","agreed","choose","chose","selected","finalize","finalized");
+    static final List<String> TASK_CUES = List.of(
+            "task","work","project","feature","ticket","backlog","story","bug","issue",
+            "api","endpoint","spec","document","doc","design","migration","deployment","pipeline",
+            "monitoring","dashboard","backend","frontend","database","schema","index","test plan",
+            "testcase","configuration","development");
+
+    // Compiled once; scanning a sentence reports summary, decision and task-cue hits in one pass
+    private final KeywordMatcher lexicon;
+
+    // Transcripts at least this long (chars) are analyzed in parallel; negative disables it
+    static final int DEFAULT_PARALLEL_THRESHOLD = 256 * 1024;
+    static final int DEFAULT_PARALLEL_CHUNK = 512;
+    private final int parallelThreshold;
+    private final int parallelChunkSize;
+
+    // Optional; null for instances built outside Spring (tests, benchmarks)
+    private final AnalysisCache cache;
+    private final AnalysisMetrics metrics;
+    // Empty outside Spring, which makes every term equally weighted
+    private final CorpusStats corpus;
+    private volatile long cacheEpoch;
+
+    public AnalysisService() {
+        this(List.of(), List.of(), List.of(), DEFAULT_PARALLEL_THRESHOLD, DEFAULT_PARALLEL_CHUNK);
+    }
+
+    public AnalysisService(List<String> summaryKeywords, List<String> decisionKeys, List<String> taskCues,
+                           int parallelThreshold, int parallelChunkSize) {
+        this(summaryKeywords, decisionKeys, taskCues, parallelThreshold, parallelChunkSize, null, AnalysisMetrics.NOOP);
+    }
+
+    public AnalysisService(List<String> summaryKeywords, List<String> decisionKeys, List<String> taskCues,
+                           int parallelThreshold, int parallelChunkSize, AnalysisCache cache, AnalysisMetrics metrics) {
+        this(summaryKeywords, decisionKeys, taskCues, parallelThreshold, parallelChunkSize, cache, metrics, new CorpusStats());
+    }
+
+    @Autowired
+    public AnalysisService(@Value("${analysis.lexicon.summary:}") List<String> summaryKeywords,
+                           @Value("${analysis.lexicon.decisions:}") List<String> decisionKeys,
+                           @Value("${analysis.lexicon.task-cues:}") List<String> taskCues,
+                           @Value("${analysis.parallel.threshold-chars:" + DEFAULT_PARALLEL_THRESHOLD + "}") int parallelThreshold,
+                           @Value("${analysis.parallel.chunk-sentences:" + DEFAULT_PARALLEL_CHUNK + "}") int parallelChunkSize,
+                           AnalysisCache cache, AnalysisMetrics metrics, CorpusStats corpus) {
+        List<String> summary = orDefault(summaryKeywords, SUMMARY_KEYWORDS);
+        List<String> decisions = orDefault(decisionKeys, DECISION_KEYS);
+        List<String> cues = orDefault(taskCues, TASK_CUES);
+        this.lexicon = KeywordMatcher.builder()
+                .add(KeywordMatcher.Group.SUMMARY, summary)
+                .add(KeywordMatcher.Group.DECISION, decisions)
+                .add(KeywordMatcher.Group.TASK_CUE, cues)
+                .build();
+        this.parallelThreshold = parallelThreshold;
+        this.parallelChunkSize = Math.max(1, parallelChunkSize);
+        this.cache = cache != null && cache.enabled() ? cache : null;
+        this.metrics = metrics;
+        this.corpus = corpus;
+        // Cached results are only valid for the lexicon and summary scoring they were computed with
+        if (this.cache != null) this.cache.open(Integer.toHexString(List.of(summary, decisions, cues, "tf-idf").hashCode()));
+        this.cacheEpoch = corpus.epoch();
+    }
+
+    private static List<String> orDefault(List<String> configured, List<String> defaults) {
+        if (configured == null) return defaults;
+        List<String> cleaned = configured.stream().map(String::trim).filter(k -> !k.isEmpty()).toList();
+        return cleaned.isEmpty() ? defaults : cleaned;
+    }
+
+    private boolean startsWithStopLead(String sentence) {
+        // Only the first token is lower-cased, not the whole sentence
+        String stripped = sentence.stripLeading();
+        int end = 0;
+        while (end < stripped.length() && !Character.isWhitespace(stripped.charAt(end))) end++;
+        return isStopWord(stripped.substring(0, end));
     }
 
+    /** Summary, decisions and action items; repeated transcripts are answered from the cache. */
     public Map<String, Object> analyze(String transcript) {
         String cleaned = transcript == null ? "" : transcript.trim();
+        if (cache == null) return compute(cleaned);
+        long epoch = corpus.epoch();
+        if (epoch != cacheEpoch) {
+            cacheEpoch = epoch;
+            cache.clear(); // summaries were scored against a corpus that has since changed noticeably
+        }
+        return cache.get(cleaned, this::compute);
+    }
+
+    private Map<String, Object> compute(String cleaned) {
+        long started = System.nanoTime();
         List<String> sentences = splitSentences(cleaned);
+        long t = System.nanoTime();
+        metrics.stage(AnalysisMetrics.Stage.SPLIT, t - started);
+        Map<String, Object> out;
+        boolean parallel = parallelThreshold >= 0 && cleaned.length() >= parallelThreshold && sentences.size() > parallelChunkSize;
+        if (parallel) {
+            // Stages interleave across chunks here, so only the whole run is timed
+            out = analyzeParallel(sentences);
+        } else {
+            int[][] hits = scanLexicon(sentences);
+            t = lap(AnalysisMetrics.Stage.SCAN, t);
+            List<String> summary = pickSummary(sentences, hits, 3);
+            t = lap(AnalysisMetrics.Stage.SUMMARY, t);
+            List<String> decisions = extractDecisions(sentences, hits);
+            t = lap(AnalysisMetrics.Stage.DECISIONS, t);
+            List<Map<String, String>> actionItems = extractActions(sentences, hits);
+            lap(AnalysisMetrics.Stage.ACTIONS, t);
+            out = result(summary, decisions, actionItems);
+        }
+        metrics.analyzed(cleaned.length(), sentences.size(), ((List<?>) out.get("actionItems")).size(), parallel,
+                System.nanoTime() - started);
+        return out;
+    }
 
-        List<String> summary = pickSummary(sentences, 3);
-        List<String> decisions = extractDecisions(sentences);
-        List<Map<String, String>> actionItems = extractActions(sentences);
+    private long lap(AnalysisMetrics.Stage stage, long since) {
+        long now = System.nanoTime();
+        metrics.stage(stage, now - since);
+        return now;
+    }
 
+    private Map<String, Object> result(List<String> summary, List<String> decisions, List<Map<String, String>> actionItems) {
         Map<String, Object> out = new LinkedHashMap<>();
         out.put("summary", String.join(" ", summary));
         out.put("decisions", decisions);
@@ -48,13 +166,97 @@ public class AnalysisService {
         return out;
     }
 
+    /**
+     * Same output as the sequential path, computed chunk by chunk on the common ForkJoinPool.
+     * Pass 1 scans each chunk, scores it and records the task context it hands on. A sequential
+     * reconciliation pass turns those into each chunk's entry context, so pass 2 can extract
+     * actions per chunk with the same pronoun resolution as a single left-to-right walk.
+     */
+    Map<String, Object> analyzeParallel(List<String> sentences) {
+        int n = sentences.size();
+        int chunks = (n + parallelChunkSize - 1) / parallelChunkSize;
+        int[][] hits = new int[n][];
+        double[] scores = new double[n];
+        int[][] topPerChunk = new int[chunks][];
+        List<List<String>> decisionsPerChunk = new ArrayList<>(Collections.nCopies(chunks, null));
+        String[] exitContext = new String[chunks]; // null: chunk contains no task-context sentence
+
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * parallelChunkSize, to = Math.min(n, from + parallelChunkSize);
+            List<String> decisions = new ArrayList<>();
+            int lastCue = -1;
+            for (int i = from; i < to; i++) {
+                String s = sentences.get(i);
+                hits[i] = lexicon.scan(s);
+                scores[i] = summaryScore(s, hits[i]);
+                if (hits[i][KeywordMatcher.Group.DECISION.ordinal()] > 0) decisions.add(s);
+                if (hits[i][KeywordMatcher.Group.TASK_CUE.ordinal()] > 0 && !s.isBlank()) lastCue = i;
+            }
+            topPerChunk[c] = topIndices(scores, IntStream.range(from, to), 3);
+            decisionsPerChunk.set(c, decisions);
+            exitContext[c] = lastCue < 0 ? null : ActionRules.conciseContext(sentences.get(lastCue).trim());
+        });
+
+        // Reconciliation: a chunk starts with the context left by the nearest earlier chunk that set one
+        String[] entryContext = new String[chunks];
+        String carried = "";
+        for (int c = 0; c < chunks; c++) {
+            entryContext[c] = carried;
+            if (exitContext[c] != null) carried = exitContext[c];
+        }
+
+        List<List<Map<String, String>>> itemsPerChunk = new ArrayList<>(Collections.nCopies(chunks, null));
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * parallelChunkSize, to = Math.min(n, from + parallelChunkSize);
+            List<Map<String, String>> items = new ArrayList<>();
+            String ctx = entryContext[c];
+            for (int i = from; i < to; i++) ctx = extractActions(sentences.get(i), hits[i], ctx, items);
+            itemsPerChunk.set(c, items);
+        });
+
+        // Global top-k is within the union of per-chunk top-k
+        int[] candidates = Arrays.stream(topPerChunk).flatMapToInt(Arrays::stream).toArray();
+        List<String> summary = Arrays.stream(topIndices(scores, Arrays.stream(candidates), 3))
+                .mapToObj(sentences::get).toList();
+        List<String> decisions = decisionsPerChunk.stream().flatMap(List::stream).toList();
+        List<Map<String, String>> actionItems = itemsPerChunk.stream().flatMap(List::stream).toList();
+        return result(summary, new ArrayList<>(decisions), new ArrayList<>(actionItems));
+    }
+
+    /**
+     * Best {@code max} indices by score, best first, earlier index first on ties (the order of a stable sort).
+     * A heap of at most {@code max} entries keeps the weakest of the best at its head: O(n log max), no full sort.
+     */
+    static int[] topIndices(double[] scores, IntStream indices, int max) {
+        if (max <= 0) return new int[0];
+        Comparator<Integer> weakerFirst = (a, b) -> scores[a] != scores[b]
+                ? Double.compare(scores[a], scores[b]) : Integer.compare(b, a);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(max + 1, weakerFirst);
+        indices.forEach(i -> {
+            if (heap.size() < max) {
+                heap.add(i);
+            } else if (weakerFirst.compare(i, heap.peek()) > 0) {
+                heap.poll();
+                heap.add(i);
+            }
+        });
+        int[] out = new int[heap.size()];
+        for (int k = out.length - 1; k >= 0; k--) out[k] = heap.poll();
+        return out;
+    }
+
+    /** Fresh incremental analyzer for a transcript that arrives in fragments. */
+    public LiveAnalysis newLiveAnalysis(int maxPendingChars) {
+        return new LiveAnalysis(this, 3, maxPendingChars);
+    }
+
     /** Split on ., !, ?, and also on comma when followed by capitalized conjunctions (And/But/So/Then/Also/I/We). */
-    private List<String> splitSentences(String text) {
+    List<String> splitSentences(String text) {
         if (text.isEmpty()) return List.of();
 
         // First split on end punctuation
         List<String> prelim = new ArrayList<>();
-        String[] parts = text.split("(?<=[.!?])\\s+");
+        String[] parts = SENTENCE_END.split(text);
         if (parts.length == 1) {
             prelim.add(text.trim());
         } else {
@@ -66,9 +268,8 @@ public class AnalysisService {
 
         // Then split further on ", <Conjunction...>" starts
         List<String> finalList = new ArrayList<>();
-        Pattern commaConj = Pattern.compile("\\s*,\\s+(?=(And|But|So|Then|Also|I|We)\\b)");
         for (String s : prelim) {
-            String[] subs = commaConj.split(s);
+            String[] subs = COMMA_CONJ.split(s);
             for (String sub : subs) {
                 String t = sub.trim();
                 if (!t.isEmpty()) finalList.add(t);
@@ -78,212 +279,147 @@ public class AnalysisService {
         return finalList.isEmpty() ? List.of(text.trim()) : finalList;
     }
 
-    private List<String> pickSummary(List<String> sentences, int max) {
+    int[] scan(String sentence) {
+        return lexicon.scan(sentence);
+    }
+
+    /** One automaton pass per sentence; every stage reads its keyword hits from the result. */
+    int[][] scanLexicon(List<String> sentences) {
+        int[][] hits = new int[sentences.size()][];
+        for (int i = 0; i < hits.length; i++) hits[i] = lexicon.scan(sentences.get(i));
+        return hits;
+    }
+
+    List<String> pickSummary(List<String> sentences, int[][] hits, int max) {
         if (sentences.isEmpty()) return List.of();
-        String[] keywords = {"goal","scope","timeline","deadline","risk","blocker","plan","decide","decision",
-                "agree","deliver","owner","next","milestone","priority","kpi","backend","development","project"};
-        Map<String,Integer> score = new HashMap<>();
-        for (String s : sentences) {
-            String l = s.toLowerCase();
-            int sc = 0;
-            for (String k : keywords) if (l.contains(k)) sc++;
-            sc += Math.min(2, l.length()/120); // tiny bump for longer sentences
-            score.put(s, sc);
+        double[] scores = new double[sentences.size()];
+        for (int i = 0; i < scores.length; i++) scores[i] = summaryScore(sentences.get(i), hits[i]);
+        return Arrays.stream(topIndices(scores, IntStream.range(0, scores.length), max)).mapToObj(sentences::get).toList();
+    }
+
+    /**
+     * TF-IDF of the sentence's terms against the stored meetings, so sentences about what sets this meeting
+     * apart outrank boilerplate every meeting has, plus a bonus per summary-lexicon hit. The sum is divided
+     * by the square root of the term count (at least {@link #MIN_SCORED_TERMS}), which still favors fuller
+     * sentences but not rambling ones, and keeps one-word fragments from winning on a single rare word.
+     * Depends on the sentence alone, which keeps live and chunked analysis identical to a single pass.
+     */
+    double summaryScore(String sentence, int[] hits) {
+        Map<String, Integer> tf = new HashMap<>();
+        for (String t : Tokenizer.tokens(sentence)) {
+            if (Tokenizer.isContent(t)) tf.merge(t, 1, Integer::sum);
         }
-        return sentences.stream()
-                .sorted((a,b) -> Integer.compare(score.getOrDefault(b,0), score.getOrDefault(a,0)))
-                .limit(max)
-                .toList();
+        double sum = 0;
+        for (Map.Entry<String, Integer> e : tf.entrySet()) sum += (1 + Math.log(e.getValue())) * corpus.idf(e.getKey());
+        double tfIdf = sum / Math.sqrt(Math.max(MIN_SCORED_TERMS, tf.size()));
+        return tfIdf + LEXICON_WEIGHT * hits[KeywordMatcher.Group.SUMMARY.ordinal()];
     }
 
-    private List<String> extractDecisions(List<String> sentences) {
-        String[] keys = {"decided","decision","approve","approved","agree","agreed","choose","chose","selected","finalize","finalized"};
+    List<String> extractDecisions(List<String> sentences, int[][] hits) {
         List<String> out = new ArrayList<>();
-        for (String s : sentences) {
-            String l = s.toLowerCase();
-            for (String k : keys) {
-                if (l.contains(k)) { out.add(s); break; }
-            }
+        for (int i = 0; i < sentences.size(); i++) {
+            if (hits[i][KeywordMatcher.Group.DECISION.ordinal()] > 0) out.add(sentences.get(i));
         }
         return out;
     }
 
-    private List<Map<String,String>> extractActions(List<String> sentences) {
-        // ---- Patterns ----
-        // NOTE: removed "|to" here to prevent "Want to" or "Need to" treating "Want"/"Need" as a name.
-        Pattern nameWillVerb = Pattern.compile(
-                "\\b([A-Z][a-zA-Z]+)\\b\\s+(will|should|must)\\s+([a-z]+)\\b([^.]*)",
-                Pattern.CASE_INSENSITIVE
-        );
-
-        // 2) "assign(ing/ed) <what> to <Name> ..."
-        Pattern assigningToName = Pattern.compile(
-                "\\bassign(?:ing|ed)?\\s+(.+?)\\s+to\\s+([A-Z][a-zA-Z]+)\\b([^.]*)",
-                Pattern.CASE_INSENSITIVE
-        );
-
-        // 3) "I/We/Please ask/Ask/Need/Want <Name> to <verb> ..."
-        Pattern wantNeedAskPattern = Pattern.compile(
-                "\\b(?:I|We|Please\\s+ask|Ask|Asked|Request|Requested|Require|Required|Need|Needs|Want|Wants)\\b.*?\\b([A-Z][a-zA-Z]+)\\b\\s+to\\s+([a-z]+)\\b([^.]*)",
-                Pattern.CASE_INSENSITIVE
-        );
-
-        // Due date hints
-        Pattern due = Pattern.compile(
-                "\\b(by|before|on)\\s+([A-Za-z]+\\s?\\d{1,2}|\\d{1,2}/\\d{1,2}|tomorrow|today|next\\s+week|EOW|EOD)\\b",
-                Pattern.CASE_INSENSITIVE
-        );
-
+    List<Map<String,String>> extractActions(List<String> sentences, int[][] hits) {
         List<Map<String,String>> items = new ArrayList<>();
 
         // Track concise "task context" from prior sentences
         String lastTaskContext = "";
 
-        for (String s : sentences) {
-            String sTrim = s == null ? "" : s.trim();
-            if (sTrim.isEmpty()) continue;
-            String sLower = sTrim.toLowerCase();
+        for (int i = 0; i < sentences.size(); i++) {
+            lastTaskContext = extractActions(sentences.get(i), hits[i], lastTaskContext, items);
+        }
+        return items;
+    }
 
-            // Update context if this sentence names a task/work/project
-            if (looksLikeTaskContext(sLower)) {
-                lastTaskContext = extractConciseContext(sTrim);
-            }
+    /**
+     * Action items for one sentence, appended to {@code items}.
+     * Returns the task context to carry into the next sentence.
+     */
+    String extractActions(String s, int[] hits, String lastTaskContext, List<Map<String,String>> items) {
+        String sTrim = s == null ? "" : s.trim();
+        if (sTrim.isEmpty()) return lastTaskContext;
+
+        // Update context if this sentence names a task/work/project
+        if (hits[KeywordMatcher.Group.TASK_CUE.ordinal()] > 0) {
+            lastTaskContext = ActionRules.conciseContext(sTrim);
+        }
 
-            // 2) assigning … to <Name> …
-            Matcher mAssign = assigningToName.matcher(sTrim);
-            if (mAssign.find()) {
-                String what = mAssign.group(1).trim();
-                String owner = cap(mAssign.group(2));
-                if (isStopWord(owner)) { /* skip bogus owners */ }
-                else {
-                    String tail  = mAssign.group(3) != null ? mAssign.group(3).trim() : "";
-                    String task  = ("take ownership of " + what + (tail.isEmpty() ? "" : " " + tail)).trim();
-                    task = stripEndPunct(task);
-                    task = resolvePronouns(task, lastTaskContext);
-
-                    String dueDate = "";
-                    Matcher d = due.matcher(sTrim);
-                    if (d.find()) dueDate = d.group(0);
-
-                    items.add(makeItem(owner, task, dueDate));
-                }
+        // Every rule reports the same due hint for a sentence, so it is looked up at most once
+        String dueDate = null;
+
+        // 2) assigning … to <Name> …
+        ActionRules.Match assign = ActionRules.assignTo(sTrim);
+        if (assign != null) {
+            metrics.match(AnalysisMetrics.Match.ASSIGNING_TO_NAME);
+            String what = assign.head().trim();
+            String owner = cap(assign.owner());
+            if (isStopWord(owner)) { /* skip bogus owners */ }
+            else {
+                String tail  = assign.tail().trim();
+                String task  = ("take ownership of " + what + (tail.isEmpty() ? "" : " " + tail)).trim();
+                task = ActionRules.stripEndPunct(task);
+                task = resolvePronouns(task, lastTaskContext);
+                if (dueDate == null) dueDate = ActionRules.due(sTrim);
+                items.add(makeItem(owner, task, dueDate));
             }
+        }
 
-            // 3) I/We/Ask/Need/Want <Name> to <verb> …
-            Matcher mWant = wantNeedAskPattern.matcher(sTrim);
-            if (mWant.find()) {
-                String owner = cap(mWant.group(1));
-                if (!isStopWord(owner)) {
-                    String verb  = mWant.group(2).toLowerCase();
-                    String rest  = mWant.group(3) != null ? mWant.group(3).trim() : "";
-                    rest = sanitizeRest(rest, owner);
-                    String task  = (verb + " " + rest).trim();
-                    task = stripEndPunct(task);
-                    task = resolvePronouns(task, lastTaskContext);
-
-                    String dueDate = "";
-                    Matcher d = due.matcher(sTrim);
-                    if (d.find()) dueDate = d.group(0);
-
-                    items.add(makeItem(owner, task, dueDate));
-                }
+        // 3) I/We/Ask/Need/Want <Name> to <verb> …
+        ActionRules.Match want = ActionRules.request(sTrim);
+        if (want != null) {
+            metrics.match(AnalysisMetrics.Match.WANT_NEED_ASK);
+            String owner = cap(want.owner());
+            if (!isStopWord(owner)) {
+                String verb  = want.head().toLowerCase();
+                String rest  = ActionRules.sanitizeRest(want.tail(), owner);
+                String task  = (verb + " " + rest).trim();
+                task = ActionRules.stripEndPunct(task);
+                task = resolvePronouns(task, lastTaskContext);
+                if (dueDate == null) dueDate = ActionRules.due(sTrim);
+                items.add(makeItem(owner, task, dueDate));
             }
+        }
 
-            // If the sentence starts with a stop-lead (e.g., "Today", "And"), skip owner-at-start heuristics
-            if (startsWithStopLead(sLower)) {
-                continue;
-            }
+        // If the sentence starts with a stop-lead (e.g., "Today", "And"), skip owner-at-start heuristics
+        if (startsWithStopLead(sTrim)) {
+            return lastTaskContext;
+        }
 
-            // 1) <Name> will/should/must <verb> …
-            Matcher m1 = nameWillVerb.matcher(sTrim);
-            if (m1.find()) {
-                String owner = cap(m1.group(1));
-                if (!isStopWord(owner)) {
-                    String verb  = m1.group(3).toLowerCase();
-                    String rest  = m1.group(4) != null ? m1.group(4).trim() : "";
-                    rest = sanitizeRest(rest, owner);
-                    String task  = (verb + " " + rest).trim();
-                    task = stripEndPunct(task);
-                    task = resolvePronouns(task, lastTaskContext);
-
-                    String dueDate = "";
-                    Matcher d = due.matcher(sTrim);
-                    if (d.find()) dueDate = d.group(0);
-
-                    items.add(makeItem(owner, task, dueDate));
-                }
+        // 1) <Name> will/should/must <verb> …
+        ActionRules.Match will = ActionRules.nameWillVerb(sTrim);
+        if (will != null) {
+            metrics.match(AnalysisMetrics.Match.NAME_WILL_VERB);
+            String owner = cap(will.owner());
+            if (!isStopWord(owner)) {
+                String verb  = will.head().toLowerCase();
+                String rest  = ActionRules.sanitizeRest(will.tail(), owner);
+                String task  = (verb + " " + rest).trim();
+                task = ActionRules.stripEndPunct(task);
+                task = resolvePronouns(task, lastTaskContext);
+                if (dueDate == null) dueDate = ActionRules.due(sTrim);
+                items.add(makeItem(owner, task, dueDate));
             }
         }
-        return items;
+        return lastTaskContext;
     }
 
     // -------- helpers --------
 
-    private boolean looksLikeTaskContext(String sLower) {
-        String[] cues = {"task","work","project","feature","ticket","backlog","story","bug","issue",
-                "api","endpoint","spec","document","doc","design","migration","deployment","pipeline",
-                "monitoring","dashboard","backend","frontend","database","schema","index","test plan",
-                "testcase","configuration","development"};
-        for (String c : cues) if (sLower.contains(c)) return true;
-        return false;
-    }
-
-    /** Extract a concise phrase for context (e.g., "backend development work") from a longer sentence. */
-    private String extractConciseContext(String sentence) {
-        // Try to capture nouny phrase around common keywords
-        Pattern p = Pattern.compile("(?i)(backend|frontend|api|project|feature|task|work|development|migration)\\b([^.,;]*)");
-        Matcher m = p.matcher(sentence);
-        if (m.find()) {
-            String head = m.group(1);
-            String tail = m.group(2) != null ? m.group(2) : "";
-            String ctx  = (head + tail).replaceAll("\\b(we|i|have|has|some|the|our)\\b", "").replaceAll("\\s{2,}", " ").trim();
-            return ctx.isEmpty() ? (head + " " + tail).trim() : ctx;
-        }
-        // Fallback: last ~6 words
-        String[] toks = sentence.replaceAll("[.?!]", "").trim().split("\\s+");
-        int from = Math.max(0, toks.length - 6);
-        return String.join(" ", Arrays.copyOfRange(toks, from, toks.length)).trim();
-    }
-
-    /** Remove leading echoes/fillers from the captured rest-of-task. */
-    private String sanitizeRest(String rest, String owner) {
-        if (rest == null) return "";
-        String r = rest.trim();
-
-        // Strip leading conjunctions/fillers
-        r = r.replaceFirst("(?i)^(and|but|so|then|also)\\s+", "");
-
-        // Remove any accidental echo like "And I want Nelson to ..." or "I want <owner> to ..."
-        String ownerEsc = Pattern.quote(owner);
-        r = r.replaceFirst("(?i)^i\\s+want\\s+" + ownerEsc + "\\s+to\\s+[a-z]+\\b\\s*", "");
-        r = r.replaceFirst("(?i)^and\\s+i\\s+want\\s+" + ownerEsc + "\\s+to\\s+[a-z]+\\b\\s*", "");
-        r = r.replaceFirst("(?i)^we\\s+(need|want|ask|asked|request|requested|require|required)\\s+" + ownerEsc + "\\s+to\\s+[a-z]+\\b\\s*", "");
-        return r.trim();
-    }
-
     private String resolvePronouns(String phrase, String context) {
-        if (phrase == null || phrase.isEmpty()) return phrase;
-        if (context == null || context.isEmpty()) return phrase;
-
-        String ctx = context;
-        String out = phrase
-                .replaceAll("(?i)\\bpick\\s+it\\s+up\\b", "pick up " + ctx)
-                .replaceAll("(?i)\\btake\\s+it\\s+up\\b", "take up " + ctx)
-                .replaceAll("(?i)\\bwork\\s+on\\s+it\\b", "work on " + ctx)
-                .replaceAll("(?i)\\bhandle\\s+it\\b", "handle " + ctx)
-                .replaceAll("(?i)\\bthis\\s+task\\b", ctx)
-                .replaceAll("(?i)\\bthis\\s+work\\b", ctx)
-                .replaceAll("(?i)\\bthe\\s+task\\b", ctx)
-                .replaceAll("(?i)\\bthe\\s+work\\b", ctx)
-                .replaceAll("(?i)\\bit\\b", ctx); // generic last
-        return out.replaceAll("\\s{2,}", " ").trim();
-    }
-
-    private String stripEndPunct(String s) {
-        return s == null ? "" : s.replaceAll("[.?!]+$", "").trim();
+        long started = System.nanoTime();
+        try {
+            return ActionRules.resolvePronouns(phrase, context);
+        } finally {
+            metrics.stage(AnalysisMetrics.Stage.RESOLVE_PRONOUNS, System.nanoTime() - started);
+        }
     }
 
     private Map<String,String> makeItem(String owner, String task, String due) {
+        if (due != null && !due.isEmpty()) metrics.match(AnalysisMetrics.Match.DUE);
         Map<String,String> it = new LinkedHashMap<>();
         it.put("owner", owner);
         it.put("task", task);
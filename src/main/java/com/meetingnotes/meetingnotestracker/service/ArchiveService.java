@@ -0,0 +1,181 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.meetingnotes.meetingnotestracker.model.ArchivedActionItem;
+import com.meetingnotes.meetingnotestracker.model.ArchivedMeeting;
+import com.meetingnotes.meetingnotestracker.model.Meeting;
+import com.meetingnotes.meetingnotestracker.repo.ActionItemRepo;
+import com.meetingnotes.meetingnotestracker.repo.MeetingRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * NDJSON archive of whole meetings (transcript, analysis, action items) for backups and migrations.
+ * Export merges three id-ordered cursors (meetings, action items, transcripts) so only one meeting
+ * is in memory at a time; import parses line by line and saves in fixed-size transactions through
+ * {@link MeetingService#persist}, so it too runs in constant memory whatever the archive size.
+ */
+@Service
+public class ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    private final MeetingRepo meetings;
+    private final ActionItemRepo actionItems;
+    private final TranscriptStore transcripts;
+    private final MeetingService meetingService;
+    private final ObjectMapper mapper;
+    private final int batchSize;
+
+    public ArchiveService(MeetingRepo meetings, ActionItemRepo actionItems, TranscriptStore transcripts,
+                          MeetingService meetingService, ObjectMapper mapper,
+                          @Value("${archive.import.batch-size:500}") int batchSize) {
+        this.meetings = meetings;
+        this.actionItems = actionItems;
+        this.transcripts = transcripts;
+        this.meetingService = meetingService;
+        this.mapper = mapper;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public record ImportResult(long imported, long reanalyzed, long transactions) {}
+
+    /**
+     * A line that could not be imported. Only whole batches are committed, so just the first {@code imported}
+     * lines are saved (up to batch-size - 1 parsed lines before the failing one are not); a retry should
+     * resume from line {@code imported + 1}.
+     */
+    public static class ImportFailed extends RuntimeException {
+        private final long imported;
+
+        ImportFailed(long line, long imported, String message) {
+            super("Line " + line + ": " + message + "; "
+                    + (imported == 0 ? "nothing was saved" : "lines 1-" + imported + " were saved")
+                    + ", resume from line " + (imported + 1));
+            this.imported = imported;
+        }
+
+        public long getImported() { return imported; }
+        public long getResumeFromLine() { return imported + 1; }
+    }
+
+    /** Writes every meeting as one JSON line, oldest first. */
+    @Transactional(readOnly = true)
+    public long export(OutputStream rawOut) throws IOException {
+        OutputStream out = new BufferedOutputStream(rawOut);
+        ObjectWriter writer = mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        long written = 0;
+        try (Stream<ArchivedMeeting> rows = meetings.streamArchive();
+             Stream<ArchivedActionItem> itemRows = actionItems.streamArchive();
+             Stream<TranscriptStore.Transcript> textRows = transcripts.streamAll()) {
+            PeekingIterator<ArchivedActionItem> items = new PeekingIterator<>(itemRows.iterator());
+            PeekingIterator<TranscriptStore.Transcript> texts = new PeekingIterator<>(textRows.iterator());
+            for (Iterator<ArchivedMeeting> it = rows.iterator(); it.hasNext(); ) {
+                ArchivedMeeting m = it.next();
+                long id = m.id();
+                List<ArchivedActionItem> own = new ArrayList<>();
+                while (items.peek() != null && items.peek().meetingId() <= id) {
+                    ArchivedActionItem a = items.next();
+                    if (a.meetingId() == id) own.add(a);
+                }
+                String transcript = "";
+                while (texts.peek() != null && texts.peek().meetingId() <= id) {
+                    TranscriptStore.Transcript t = texts.next();
+                    if (t.meetingId() == id) transcript = t.text();
+                }
+                writer.writeValue(out, m.with(transcript, own));
+                out.write('\n');
+                written++;
+            }
+        }
+        out.flush();
+        return written;
+    }
+
+    /**
+     * Imports archive lines. With {@code trustAnalysis} the stored summary, decisions and action items
+     * are kept as they are; otherwise (or for lines without a summary) the transcript is analyzed again.
+     */
+    public ImportResult importArchive(InputStream in, boolean trustAnalysis) throws IOException {
+        long line = 0, imported = 0, reanalyzed = 0, transactions = 0;
+        List<Meeting> batch = new ArrayList<>(batchSize);
+        try (MappingIterator<ArchivedMeeting> lines = mapper.readerFor(ArchivedMeeting.class).readValues(in)) {
+            while (true) {
+                ArchivedMeeting a;
+                long next = line + 1; // hasNextValue() already parses the next line's first token
+                try {
+                    if (!lines.hasNextValue()) break;
+                    line = next;
+                    a = lines.nextValue();
+                    if (a == null) throw new ImportFailed(line, imported, "not a meeting: null");
+                } catch (JsonProcessingException | UncheckedIOException e) {
+                    throw new ImportFailed(next, imported, "not a meeting: " + e.getMessage());
+                }
+                if (trustAnalysis && a.summary() != null) {
+                    batch.add(meetingService.assemble(a));
+                } else {
+                    batch.add(meetingService.build(a.title(), a.attendees(), a.transcript() == null ? "" : a.transcript(),
+                            a.occurredAt()));
+                    reanalyzed++;
+                }
+                if (batch.size() == batchSize) {
+                    save(batch, line, imported);
+                    imported += batch.size();
+                    transactions++;
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            save(batch, line, imported);
+            imported += batch.size();
+            transactions++;
+        }
+        log.info("Imported {} meetings in {} transactions ({} analyzed again)", imported, transactions, reanalyzed);
+        return new ImportResult(imported, reanalyzed, transactions);
+    }
+
+    private void save(List<Meeting> batch, long lastLine, long imported) {
+        try {
+            meetingService.persist(batch);
+        } catch (RuntimeException e) {
+            throw new ImportFailed(lastLine - batch.size() + 1, imported,
+                    "batch up to line " + lastLine + " was not saved: " + e.getMessage());
+        }
+    }
+
+    private static final class PeekingIterator<T> {
+        private final Iterator<T> it;
+        private T next;
+
+        PeekingIterator(Iterator<T> it) {
+            this.it = it;
+            this.next = it.hasNext() ? it.next() : null;
+        }
+
+        T peek() { return next; }
+
+        T next() {
+            T out = next;
+            next = it.hasNext() ? it.next() : null;
+            return out;
+        }
+    }
+}
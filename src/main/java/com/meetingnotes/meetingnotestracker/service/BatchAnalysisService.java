@@ -0,0 +1,114 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * NDJSON batch analysis: one transcript per input line, one result per output line, in input order.
+ * Lines are analyzed concurrently on a bounded pool; at most {@code window} results are in flight,
+ * so neither the input nor the output is ever held in memory as a whole.
+ */
+@Service
+public class BatchAnalysisService {
+
+    private final AnalysisService analysis;
+    private final ObjectMapper mapper;
+    private final ExecutorService workers;
+    private final int window;
+
+    public BatchAnalysisService(AnalysisService analysis, ObjectMapper mapper,
+                                @Value("${analysis.batch.parallelism:0}") int parallelism,
+                                @Value("${analysis.batch.window:0}") int window) {
+        this.analysis = analysis;
+        this.mapper = mapper;
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.window = window > 0 ? window : threads * 4;
+        AtomicInteger n = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "batch-analysis-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private record Pending(long index, JsonNode id, Future<Map<String, Object>> result) {}
+
+    /**
+     * Each input line is either a JSON object {"transcript": "...", "id": ...} or a bare JSON string.
+     * Output lines carry "index" (0-based line number of non-blank input) and the echoed "id".
+     */
+    public void analyze(InputStream in, OutputStream rawOut) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        OutputStream out = new BufferedOutputStream(rawOut);
+        Deque<Pending> inFlight = new ArrayDeque<>();
+        long index = 0;
+        String line;
+        try {
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) continue;
+                inFlight.add(submit(index++, line));
+                // Emit whatever is already finished at the head; block only when the window is full
+                while (!inFlight.isEmpty() && (inFlight.size() >= window || inFlight.peek().result().isDone())) {
+                    write(inFlight.poll(), out);
+                }
+                if (inFlight.isEmpty() || !inFlight.peek().result().isDone()) out.flush();
+            }
+            while (!inFlight.isEmpty()) {
+                write(inFlight.poll(), out);
+                if (inFlight.isEmpty() || !inFlight.peek().result().isDone()) out.flush();
+            }
+        } finally {
+            inFlight.forEach(p -> p.result().cancel(true));
+        }
+    }
+
+    private Pending submit(long index, String line) {
+        JsonNode id = null;
+        try {
+            JsonNode node = mapper.readTree(line);
+            String transcript;
+            if (node.isTextual()) {
+                transcript = node.asText();
+            } else {
+                id = node.get("id");
+                transcript = node.path("transcript").asText("");
+            }
+            String t = transcript;
+            return new Pending(index, id, workers.submit(() -> analysis.analyze(t)));
+        } catch (JsonProcessingException e) {
+            return new Pending(index, id, CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Invalid JSON line: " + e.getOriginalMessage())));
+        }
+    }
+
+    private void write(Pending p, OutputStream out) throws IOException {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("index", p.index());
+        if (p.id() != null) line.put("id", p.id());
+        try {
+            line.putAll(p.result().get());
+        } catch (ExecutionException e) {
+            line.put("error", String.valueOf(e.getCause().getMessage()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Batch analysis interrupted");
+        }
+        out.write(mapper.writeValueAsBytes(line));
+        out.write('\n');
+    }
+}
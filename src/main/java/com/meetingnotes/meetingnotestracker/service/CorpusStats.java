@@ -0,0 +1,106 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Document frequencies of transcript terms across stored meetings, for TF-IDF summary scoring.
+ * Loaded from the search index's postings at startup and then kept current by {@link SearchIndexService}:
+ * a saved meeting's distinct terms are added, and a deleted one's subtracted, when their transaction commits.
+ * Lookups are a hash probe, so scoring cost does not depend on the size of the corpus.
+ *
+ * The epoch moves whenever the corpus has grown or shrunk by more than a tenth since it last moved,
+ * which tells holders of scored results (the analysis cache) that they are due for a refresh.
+ */
+@Service
+public class CorpusStats {
+
+    private final ConcurrentHashMap<String, Integer> df = new ConcurrentHashMap<>();
+    // written under the monitor, read without it on the scoring path
+    private volatile long documents;
+    private volatile long epoch;
+    private long documentsAtEpoch;
+    private boolean loaded;
+
+    /** BM25's idf, the same weighting search ranking uses; about 0.69 for every term of an empty corpus. */
+    public double idf(String term) {
+        long n = documents;
+        int f = Math.min(df.getOrDefault(term, 0), (int) Math.min(Integer.MAX_VALUE, n));
+        return Math.log(1 + (n - f + 0.5) / (f + 0.5));
+    }
+
+    /** Stored meetings, kept current like the frequencies; N for search ranking without a count query. */
+    public long documents() {
+        return documents;
+    }
+
+    /** Meetings whose transcript has the term. */
+    int frequency(String term) {
+        return df.getOrDefault(term, 0);
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    /** Replaces everything, e.g. after a search index rebuild; the first load keeps epoch 0. */
+    synchronized void reset(Map<String, Integer> frequencies, long documentCount) {
+        df.clear();
+        df.putAll(frequencies);
+        documents = documentCount;
+        documentsAtEpoch = documentCount;
+        if (loaded) epoch++;
+        loaded = true;
+    }
+
+    /** Counts a saved meeting's distinct transcript terms once its transaction commits. */
+    void added(Collection<String> terms) {
+        afterCommit(() -> apply(terms, 1));
+    }
+
+    /** Uncounts a deleted meeting's distinct transcript terms once its transaction commits. */
+    void removed(Collection<String> terms) {
+        afterCommit(() -> apply(terms, -1));
+    }
+
+    public synchronized Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("documents", documents);
+        out.put("terms", df.size());
+        out.put("epoch", epoch);
+        return out;
+    }
+
+    private void apply(Collection<String> terms, int delta) {
+        for (String t : terms) df.compute(t, (k, v) -> {
+            int f = (v == null ? 0 : v) + delta;
+            return f > 0 ? f : null;
+        });
+        synchronized (this) {
+            documents = Math.max(0, documents + delta);
+            if (Math.abs(documents - documentsAtEpoch) > Math.max(10, documentsAtEpoch / 10)) {
+                documentsAtEpoch = documents;
+                epoch++;
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable r) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            r.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                r.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,103 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+
+/**
+ * Turns the due hints found by the action rules ("by tomorrow", "before EOW", "on Aug 15", "by 8/15")
+ * into calendar dates, relative to the day the meeting took place. "by", "before" and "on" all resolve
+ * to the named day; hints that name no date ("by Sprint 3") resolve to null. Weekdays, EOW included,
+ * always mean the next such day after the meeting: "by Friday" or "EOW" said on a Friday is a week later.
+ */
+@Component
+public class DueDateResolver {
+
+    private static final String[] CUES = {"by", "before", "on"};
+
+    private final ZoneId zone;
+
+    public DueDateResolver() {
+        this(ZoneOffset.UTC);
+    }
+
+    @Autowired
+    public DueDateResolver(@Value("${action-items.time-zone:UTC}") String zone) {
+        this(ZoneId.of(zone));
+    }
+
+    DueDateResolver(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    /** Date the hint points to, or null; a missing meeting date counts as today. */
+    public LocalDate resolve(String hint, Instant occurredAt) {
+        if (hint == null || hint.isBlank()) return null;
+        LocalDate day = LocalDate.ofInstant(occurredAt == null ? Instant.now() : occurredAt, zone);
+        String[] words = hint.trim().toLowerCase(Locale.ROOT).split("\\s+");
+        int i = 0;
+        for (String cue : CUES) {
+            if (words.length > 1 && words[0].equals(cue)) { i = 1; break; }
+        }
+        String first = words[i];
+        String second = i + 1 < words.length ? words[i + 1] : null;
+        switch (first) {
+            case "today", "eod": return day;
+            case "tomorrow": return day.plusDays(1);
+            case "eow": return day.with(TemporalAdjusters.next(DayOfWeek.FRIDAY));
+            case "next": return "week".equals(second) ? day.with(TemporalAdjusters.next(DayOfWeek.MONDAY)) : null;
+            default: break;
+        }
+        int slash = first.indexOf('/');
+        if (slash > 0) return monthDay(day, number(first.substring(0, slash)), number(first.substring(slash + 1)));
+
+        // "aug 15", "august15", "friday"
+        int digits = first.length();
+        while (digits > 0 && Character.isDigit(first.charAt(digits - 1))) digits--;
+        String name = first.substring(0, digits);
+        int dayOfMonth = digits < first.length() ? number(first.substring(digits)) : second == null ? -1 : number(second);
+        Month month = month(name);
+        if (month != null) return dayOfMonth > 0 ? monthDay(day, month.getValue(), dayOfMonth) : null;
+        DayOfWeek weekday = weekday(name);
+        return weekday == null ? null : day.with(TemporalAdjusters.next(weekday));
+    }
+
+    /** The next such date on or after the meeting day. */
+    private static LocalDate monthDay(LocalDate day, int month, int dayOfMonth) {
+        try {
+            LocalDate d = LocalDate.of(day.getYear(), month, dayOfMonth);
+            return d.isBefore(day) ? LocalDate.of(day.getYear() + 1, month, dayOfMonth) : d;
+        } catch (DateTimeException e) {
+            return null; // 2/30, 13/1, or Feb 29 in the wrong year
+        }
+    }
+
+    private static int number(String s) {
+        if (s.isEmpty() || s.length() > 2) return -1;
+        for (int i = 0; i < s.length(); i++) if (!Character.isDigit(s.charAt(i))) return -1;
+        return Integer.parseInt(s);
+    }
+
+    // Full names or any prefix of at least three letters: "aug", "sept", "september"
+    private static Month month(String name) {
+        if (name.length() < 3) return null;
+        for (Month m : Month.values()) if (m.name().toLowerCase(Locale.ROOT).startsWith(name)) return m;
+        return null;
+    }
+
+    private static DayOfWeek weekday(String name) {
+        if (name.length() < 3) return null;
+        for (DayOfWeek d : DayOfWeek.values()) if (d.name().toLowerCase(Locale.ROOT).startsWith(name)) return d;
+        return null;
+    }
+}
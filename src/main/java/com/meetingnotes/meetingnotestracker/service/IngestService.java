@@ -0,0 +1,189 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.meetingnotes.meetingnotestracker.model.Meeting;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Asynchronous meeting ingest. Submissions get a ticket immediately; analysis runs on a bounded
+ * worker pool and finished meetings are handed to a single write-behind flusher that saves them
+ * in groups, one transaction and a few JDBC batches per group.
+ *
+ * Backpressure: the flush queue is bounded, so slow writes stall the workers, which fills the
+ * analysis queue, which makes {@link #submit} throw {@link RejectedExecutionException}.
+ */
+@Service
+public class IngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestService.class);
+
+    public enum Status { QUEUED, ANALYZING, PERSISTING, DONE, FAILED }
+
+    private final MeetingService meetings;
+    private final ThreadPoolExecutor workers;
+    private final BlockingQueue<Pending> writes;
+    private final Thread flusher;
+    private final int flushBatch;
+    private final Duration flushInterval;
+    private final Duration ticketTtl;
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    public IngestService(MeetingService meetings,
+                         @Value("${ingest.workers:0}") int workerCount,
+                         @Value("${ingest.queue-capacity:1000}") int queueCapacity,
+                         @Value("${ingest.flush-batch:50}") int flushBatch,
+                         @Value("${ingest.flush-interval:PT0.05S}") Duration flushInterval,
+                         @Value("${ingest.ticket-ttl:PT1H}") Duration ticketTtl) {
+        this.meetings = meetings;
+        this.flushBatch = Math.max(1, flushBatch);
+        this.flushInterval = flushInterval;
+        this.ticketTtl = ticketTtl;
+        int threads = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        AtomicInteger n = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread t = new Thread(r, "ingest-" + n.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        this.writes = new ArrayBlockingQueue<>(this.flushBatch * 4);
+        this.flusher = new Thread(this::flushLoop, "ingest-flusher");
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    /** Status handle for one submission. */
+    public static final class Ticket {
+        private final String id;
+        private final Instant submittedAt = Instant.now();
+        private volatile Status status = Status.QUEUED;
+        private volatile Long meetingId;
+        private volatile String error;
+        private volatile long finishedAt; // nanoTime, 0 while pending
+
+        Ticket(String id) { this.id = id; }
+
+        public String getId() { return id; }
+        public Instant getSubmittedAt() { return submittedAt; }
+        public Status getStatus() { return status; }
+        public Long getMeetingId() { return meetingId; }
+        public String getError() { return error; }
+
+        void done(Long meetingId) { this.meetingId = meetingId; finish(Status.DONE); }
+        void fail(String error) { this.error = error; finish(Status.FAILED); }
+        private void finish(Status s) { finishedAt = System.nanoTime(); status = s; }
+    }
+
+    private record Pending(Ticket ticket, Meeting meeting) {}
+
+    /** Queues a meeting for analysis and persistence; throws RejectedExecutionException when full. */
+    public Ticket submit(String title, String attendees, String transcript, Instant occurredAt) {
+        evictFinished();
+        Ticket ticket = new Ticket(UUID.randomUUID().toString());
+        tickets.put(ticket.getId(), ticket);
+        try {
+            workers.execute(() -> analyze(ticket, title, attendees, transcript, occurredAt));
+        } catch (RejectedExecutionException e) {
+            tickets.remove(ticket.getId());
+            throw e;
+        }
+        return ticket;
+    }
+
+    public Optional<Ticket> ticket(String id) {
+        return Optional.ofNullable(tickets.get(id));
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("queued", workers.getQueue().size());
+        out.put("analyzing", workers.getActiveCount());
+        out.put("pendingWrites", writes.size());
+        out.put("queueCapacity", workers.getQueue().size() + workers.getQueue().remainingCapacity());
+        out.put("tickets", tickets.size());
+        return out;
+    }
+
+    private void analyze(Ticket ticket, String title, String attendees, String transcript, Instant occurredAt) {
+        ticket.status = Status.ANALYZING;
+        Meeting m;
+        try {
+            m = meetings.build(title, attendees, transcript, occurredAt);
+        } catch (RuntimeException e) {
+            ticket.fail(String.valueOf(e.getMessage()));
+            return;
+        }
+        try {
+            writes.put(new Pending(ticket, m)); // blocks while the flusher is behind
+        } catch (InterruptedException e) {
+            ticket.fail("Ingest shut down");
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flushLoop() {
+        List<Pending> batch = new ArrayList<>(flushBatch);
+        while (running || !writes.isEmpty()) {
+            try {
+                Pending first = writes.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                writes.drainTo(batch, flushBatch - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        batch.forEach(p -> p.ticket().status = Status.PERSISTING);
+        try {
+            List<Meeting> saved = meetings.persist(batch.stream().map(Pending::meeting).toList());
+            for (int i = 0; i < batch.size(); i++) batch.get(i).ticket().done(saved.get(i).getId());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).ticket().fail(String.valueOf(e.getMessage()));
+                return;
+            }
+            // One bad row rolls back the group; retry singly so only that submission fails. The rolled-back
+            // entities already carry generated ids, so they are rebuilt rather than saved again.
+            log.warn("Ingest batch of {} failed, retrying one by one: {}", batch.size(), e.getMessage());
+            for (Pending p : batch) {
+                Meeting m = p.meeting();
+                try {
+                    Meeting fresh = meetings.build(m.getTitle(), m.getAttendees(), m.getTranscript(), m.getOccurredAt());
+                    flush(List.of(new Pending(p.ticket(), fresh)));
+                } catch (RuntimeException retry) {
+                    p.ticket().fail(String.valueOf(retry.getMessage()));
+                }
+            }
+        }
+    }
+
+    private void evictFinished() {
+        long cutoff = System.nanoTime() - ticketTtl.toNanos();
+        tickets.values().removeIf(t -> t.finishedAt != 0 && t.finishedAt - cutoff < 0);
+    }
+
+    /** Stops accepting work, lets queued analyses finish and drains the write-behind queue. */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(30, TimeUnit.SECONDS)) workers.shutdownNow();
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+    }
+}
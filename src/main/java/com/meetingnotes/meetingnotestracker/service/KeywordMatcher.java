@@ -0,0 +1,144 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import java.util.*;
+
+/**
+ * Aho-Corasick automaton over several keyword groups (summary keywords, decision keys, task cues...).
+ * Built once; {@link #scan} walks a sentence a single time and reports, per group, how many distinct
+ * keywords occur in it as substrings. Matching is case-insensitive without copying the input.
+ */
+public final class KeywordMatcher {
+
+    public enum Group { SUMMARY, DECISION, TASK_CUE }
+
+    private static final int ROOT = 0;
+
+    private final int alphabetSize;
+    private final char[] classOf;     // folded char -> alphabet index (0 = not part of any keyword)
+    private final int[] delta;        // state * alphabetSize + class -> next state (full DFA)
+    private final int[][] outputs;    // state -> keyword ids ending here (fail-link closure included)
+    private final Group[] groupOf;    // keyword id -> group
+    private final int keywordCount;
+
+    private KeywordMatcher(Map<Group, List<String>> lexicon) {
+        List<String> words = new ArrayList<>();
+        List<Group> groups = new ArrayList<>();
+        for (Map.Entry<Group, List<String>> e : lexicon.entrySet()) {
+            for (String k : e.getValue()) {
+                if (k == null || k.isBlank()) continue;
+                words.add(fold(k.trim()));
+                groups.add(e.getKey());
+            }
+        }
+        this.keywordCount = words.size();
+        this.groupOf = groups.toArray(new Group[0]);
+
+        // Alphabet: only chars that occur in some keyword get their own class
+        this.classOf = new char[Character.MAX_VALUE + 1];
+        int next = 1;
+        for (String w : words) {
+            for (int i = 0; i < w.length(); i++) {
+                char c = w.charAt(i);
+                if (classOf[c] == 0) classOf[c] = (char) next++;
+            }
+        }
+        this.alphabetSize = next;
+
+        // Trie
+        List<int[]> gotoRows = new ArrayList<>();
+        List<List<Integer>> out = new ArrayList<>();
+        gotoRows.add(newRow());
+        out.add(new ArrayList<>());
+        for (int id = 0; id < words.size(); id++) {
+            String w = words.get(id);
+            int s = ROOT;
+            for (int i = 0; i < w.length(); i++) {
+                int cls = classOf[w.charAt(i)];
+                if (gotoRows.get(s)[cls] < 0) {
+                    gotoRows.get(s)[cls] = gotoRows.size();
+                    gotoRows.add(newRow());
+                    out.add(new ArrayList<>());
+                }
+                s = gotoRows.get(s)[cls];
+            }
+            out.get(s).add(id);
+        }
+
+        // BFS: fail links, output closure and the complete transition table
+        int states = gotoRows.size();
+        int[] fail = new int[states];
+        this.delta = new int[states * alphabetSize];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < alphabetSize; c++) {
+            int t = gotoRows.get(ROOT)[c];
+            if (t > 0) { fail[t] = ROOT; delta[c] = t; queue.add(t); }
+            else delta[c] = ROOT;
+        }
+        while (!queue.isEmpty()) {
+            int s = queue.poll();
+            out.get(s).addAll(out.get(fail[s]));
+            for (int c = 0; c < alphabetSize; c++) {
+                int t = gotoRows.get(s)[c];
+                if (t > 0) {
+                    fail[t] = delta[fail[s] * alphabetSize + c];
+                    delta[s * alphabetSize + c] = t;
+                    queue.add(t);
+                } else {
+                    delta[s * alphabetSize + c] = delta[fail[s] * alphabetSize + c];
+                }
+            }
+        }
+        this.outputs = new int[states][];
+        for (int s = 0; s < states; s++) {
+            outputs[s] = out.get(s).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+
+    private int[] newRow() {
+        int[] row = new int[alphabetSize];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    public static Builder builder() { return new Builder(); }
+
+    /** Distinct keyword hits per group, indexed by {@link Group#ordinal()}. */
+    public int[] scan(CharSequence text) {
+        int[] counts = new int[Group.values().length];
+        if (text == null || keywordCount == 0) return counts;
+        long[] seen = new long[(keywordCount + 63) >>> 6];
+        int s = ROOT;
+        for (int i = 0, n = text.length(); i < n; i++) {
+            s = delta[s * alphabetSize + classOf[foldChar(text.charAt(i))]];
+            for (int id : outputs[s]) {
+                long bit = 1L << id;
+                if ((seen[id >>> 6] & bit) == 0) {
+                    seen[id >>> 6] |= bit;
+                    counts[groupOf[id].ordinal()]++;
+                }
+            }
+        }
+        return counts;
+    }
+
+    private static char foldChar(char c) {
+        return c < 128 ? (c >= 'A' && c <= 'Z' ? (char) (c + 32) : c) : Character.toLowerCase(c);
+    }
+
+    private static String fold(String s) {
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) sb.append(foldChar(s.charAt(i)));
+        return sb.toString();
+    }
+
+    public static final class Builder {
+        private final Map<Group, List<String>> lexicon = new EnumMap<>(Group.class);
+
+        public Builder add(Group group, Collection<String> keywords) {
+            lexicon.computeIfAbsent(group, g -> new ArrayList<>()).addAll(keywords);
+            return this;
+        }
+
+        public KeywordMatcher build() { return new KeywordMatcher(lexicon); }
+    }
+}
@@ -0,0 +1,141 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import java.util.*;
+
+/**
+ * Incremental analysis of a transcript that arrives in fragments (live sessions).
+ * Only complete sentences are analyzed; the unfinished tail is kept until more text or {@link #finish()}.
+ * A sentence ends at [.!?] and whitespace, at the end of a fragment marked as ending one (a final speech
+ * recognition result, which is usually unpunctuated), or, failing both, at the last space once the tail
+ * grows past {@code maxPendingChars}, so the tail and the work left for finish() stay bounded.
+ * The state carried between sentences (task context, top summary sentences) makes the final
+ * result identical to {@link AnalysisService#analyze} on the fragments joined with spaces, when
+ * sentences are only cut at punctuation.
+ * Not thread-safe; callers serialize access per session.
+ */
+public class LiveAnalysis {
+
+    private final AnalysisService analysis;
+    private final int summarySize;
+    private final int maxPendingChars;
+
+    private final StringBuilder pending = new StringBuilder();
+    private int scannedUpTo; // pending[0..scannedUpTo) is known to hold no sentence boundary
+
+    private final List<Ranked> top = new ArrayList<>(); // best first, ties keep the earlier sentence
+    private final List<String> decisions = new ArrayList<>();
+    private final List<Map<String, String>> actionItems = new ArrayList<>();
+    private String lastTaskContext = "";
+    private long sentenceCount;
+
+    private record Ranked(double score, String sentence) {}
+
+    LiveAnalysis(AnalysisService analysis, int summarySize, int maxPendingChars) {
+        this.analysis = analysis;
+        this.summarySize = summarySize;
+        this.maxPendingChars = Math.max(1, maxPendingChars);
+    }
+
+    /** Adds a fragment and returns what changed: new decisions, new action items and the summary if it moved. */
+    public Map<String, Object> append(String fragment) {
+        return append(fragment, false);
+    }
+
+    /** As {@link #append(String)}; with {@code endsSentence} everything pending is analyzed now. */
+    public Map<String, Object> append(String fragment, boolean endsSentence) {
+        if (fragment == null || fragment.isBlank()) {
+            return endsSentence ? finish() : delta(List.of(), List.of(), false);
+        }
+        if (!pending.isEmpty() && !isSpace(pending.charAt(pending.length() - 1)) && !isSpace(fragment.charAt(0))) {
+            pending.append(' ');
+        }
+        pending.append(fragment);
+
+        // Last "[.!?] <whitespace>" boundary; only the new text (plus one char of overlap) is scanned
+        int cut = -1;
+        for (int i = Math.max(1, scannedUpTo); i < pending.length(); i++) {
+            char prev = pending.charAt(i - 1);
+            if ((prev == '.' || prev == '!' || prev == '?') && isSpace(pending.charAt(i))) cut = i;
+        }
+        if (endsSentence) {
+            cut = pending.length();
+        } else if (cut < 0 && pending.length() > maxPendingChars) {
+            cut = pending.length();
+            for (int i = pending.length() - 1; i > 0; i--) {
+                if (isSpace(pending.charAt(i))) { cut = i; break; }
+            }
+        }
+        if (cut < 0) {
+            scannedUpTo = pending.length();
+            return delta(List.of(), List.of(), false);
+        }
+        String complete = pending.substring(0, cut).trim();
+        int rest = cut;
+        while (rest < pending.length() && isSpace(pending.charAt(rest))) rest++;
+        pending.delete(0, rest);
+        scannedUpTo = 0;
+        return process(complete);
+    }
+
+    /** Flushes the unfinished tail as the last sentence(s). */
+    public Map<String, Object> finish() {
+        String tail = pending.toString().trim();
+        pending.setLength(0);
+        scannedUpTo = 0;
+        return tail.isEmpty() ? delta(List.of(), List.of(), false) : process(tail);
+    }
+
+    /** Full result so far, in the same shape as {@link AnalysisService#analyze}. */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("summary", summary());
+        out.put("decisions", List.copyOf(decisions));
+        out.put("actionItems", List.copyOf(actionItems));
+        return out;
+    }
+
+    /** Same character class as the regex {@code \s} used by the sentence splitter. */
+    private static boolean isSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private Map<String, Object> process(String text) {
+        List<String> newDecisions = new ArrayList<>();
+        List<Map<String, String>> newItems = new ArrayList<>();
+        boolean summaryChanged = false;
+        for (String s : analysis.splitSentences(text)) {
+            sentenceCount++;
+            int[] hits = analysis.scan(s);
+            summaryChanged |= offer(new Ranked(analysis.summaryScore(s, hits), s));
+            if (hits[KeywordMatcher.Group.DECISION.ordinal()] > 0) newDecisions.add(s);
+            lastTaskContext = analysis.extractActions(s, hits, lastTaskContext, newItems);
+        }
+        decisions.addAll(newDecisions);
+        actionItems.addAll(newItems);
+        return delta(newDecisions, newItems, summaryChanged);
+    }
+
+    private boolean offer(Ranked r) {
+        int pos = 0;
+        while (pos < top.size() && top.get(pos).score() >= r.score()) pos++;
+        if (pos >= summarySize) return false;
+        top.add(pos, r);
+        if (top.size() > summarySize) top.remove(top.size() - 1);
+        return true;
+    }
+
+    private String summary() {
+        StringJoiner j = new StringJoiner(" ");
+        for (Ranked r : top) j.add(r.sentence());
+        return j.toString();
+    }
+
+    private Map<String, Object> delta(List<String> newDecisions, List<Map<String, String>> newItems, boolean summaryChanged) {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("sentences", sentenceCount);
+        if (summaryChanged) out.put("summary", summary());
+        out.put("decisions", newDecisions);
+        out.put("actionItems", newItems);
+        return out;
+    }
+}
@@ -0,0 +1,123 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Live meeting sessions: each one owns a {@link LiveAnalysis} and the SSE subscribers that
+ * receive its deltas. Idle sessions are dropped when new ones are opened.
+ */
+@Service
+public class LiveSessionService {
+
+    private final AnalysisService analysis;
+    private final Duration idleTimeout;
+    private final int maxSessions;
+    private final int maxPendingChars;
+    private final Map<String, LiveSession> sessions = new ConcurrentHashMap<>();
+
+    public LiveSessionService(AnalysisService analysis,
+                              @Value("${live.idle-timeout:PT30M}") Duration idleTimeout,
+                              @Value("${live.max-sessions:500}") int maxSessions,
+                              @Value("${live.max-pending-chars:2000}") int maxPendingChars) {
+        this.analysis = analysis;
+        this.idleTimeout = idleTimeout;
+        this.maxSessions = maxSessions;
+        this.maxPendingChars = maxPendingChars;
+    }
+
+    private static final class LiveSession {
+        final LiveAnalysis analysis;
+        final List<SseEmitter> subscribers = new CopyOnWriteArrayList<>();
+        volatile long lastSeen = System.nanoTime();
+
+        LiveSession(LiveAnalysis analysis) { this.analysis = analysis; }
+    }
+
+    public String open() {
+        evictIdle();
+        if (sessions.size() >= maxSessions) throw new IllegalStateException("Too many live sessions");
+        String id = UUID.randomUUID().toString();
+        sessions.put(id, new LiveSession(analysis.newLiveAnalysis(maxPendingChars)));
+        return id;
+    }
+
+    /** {@code endsSentence}: the fragment is a finished utterance, e.g. a final speech recognition result. */
+    public Optional<Map<String, Object>> append(String id, String fragment, boolean endsSentence) {
+        LiveSession s = sessions.get(id);
+        if (s == null) return Optional.empty();
+        Map<String, Object> delta;
+        synchronized (s) {
+            s.lastSeen = System.nanoTime();
+            delta = s.analysis.append(fragment, endsSentence);
+            // under the lock so subscribers see deltas in the order they were computed
+            publish(s, delta);
+        }
+        return Optional.of(delta);
+    }
+
+    public Optional<Map<String, Object>> snapshot(String id) {
+        LiveSession s = sessions.get(id);
+        if (s == null) return Optional.empty();
+        synchronized (s) {
+            return Optional.of(s.analysis.snapshot());
+        }
+    }
+
+    public Optional<SseEmitter> subscribe(String id, long timeoutMillis) {
+        LiveSession s = sessions.get(id);
+        if (s == null) return Optional.empty();
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> s.subscribers.remove(emitter));
+        emitter.onTimeout(() -> s.subscribers.remove(emitter));
+        emitter.onError(e -> s.subscribers.remove(emitter));
+        s.subscribers.add(emitter);
+        return Optional.of(emitter);
+    }
+
+    /** Flushes the unfinished tail, sends the last delta and closes the session. Returns the final result. */
+    public Optional<Map<String, Object>> finish(String id) {
+        LiveSession s = sessions.remove(id);
+        if (s == null) return Optional.empty();
+        Map<String, Object> result;
+        synchronized (s) {
+            publish(s, s.analysis.finish());
+            result = s.analysis.snapshot();
+        }
+        s.subscribers.forEach(SseEmitter::complete);
+        return Optional.of(result);
+    }
+
+    public boolean close(String id) {
+        LiveSession s = sessions.remove(id);
+        if (s == null) return false;
+        s.subscribers.forEach(SseEmitter::complete);
+        return true;
+    }
+
+    private void publish(LiveSession s, Map<String, Object> delta) {
+        for (SseEmitter emitter : s.subscribers) {
+            try {
+                emitter.send(SseEmitter.event().name("analysis").data(delta));
+            } catch (IOException | IllegalStateException e) {
+                s.subscribers.remove(emitter);
+            }
+        }
+    }
+
+    private void evictIdle() {
+        long cutoff = System.nanoTime() - idleTimeout.toNanos();
+        sessions.entrySet().removeIf(e -> {
+            if (e.getValue().lastSeen - cutoff >= 0) return false;
+            e.getValue().subscribers.forEach(SseEmitter::complete);
+            return true;
+        });
+    }
+}
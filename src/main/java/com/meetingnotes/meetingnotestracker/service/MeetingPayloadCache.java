@@ -0,0 +1,123 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Serialized GET /meetings/{id} bodies with their strong ETags, so repeat reads skip both the database
+ * and Jackson. Bounded by total payload bytes, least recently used first.
+ *
+ * Writes that change what the JSON shows call {@link #evict}. Inside a transaction the entry is dropped
+ * again once it completes, and loads that overlap an eviction are not stored, so a read racing the write
+ * cannot put the old row back.
+ */
+@Service
+public class MeetingPayloadCache {
+
+    public record Payload(byte[] json, String etag) {}
+
+    private final long maxBytes;
+    private final LinkedHashMap<Long, Payload> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private long bytes;
+    private long generation; // bumped by every eviction
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public MeetingPayloadCache(@Value("${meetings.cache.max-bytes:16777216}") long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    public boolean enabled() {
+        return maxBytes > 0;
+    }
+
+    /** Cached payload, or the loader's JSON (empty when the meeting does not exist) stored for next time. */
+    public Optional<Payload> get(Long id, Supplier<Optional<byte[]>> load) {
+        long seen;
+        synchronized (this) {
+            Payload cached = entries.get(id);
+            if (cached != null) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            seen = generation;
+        }
+        misses.increment();
+        Optional<Payload> loaded = load.get().map(json -> new Payload(json, etag(json)));
+        if (loaded.isPresent() && enabled()) {
+            synchronized (this) {
+                if (generation == seen) put(id, loaded.get());
+            }
+        }
+        return loaded;
+    }
+
+    /** Drops a meeting now and, inside a transaction, once more after it commits or rolls back. */
+    public void evict(Long id) {
+        remove(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    remove(id);
+                }
+            });
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        entries.clear();
+        bytes = 0;
+    }
+
+    public synchronized Map<String, Object> stats() {
+        long h = hits.sum(), m = misses.sum();
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("enabled", enabled());
+        out.put("entries", entries.size());
+        out.put("bytes", bytes);
+        out.put("maxBytes", maxBytes);
+        out.put("hits", h);
+        out.put("misses", m);
+        out.put("evictions", evictions.sum());
+        out.put("hitRate", h + m == 0 ? 0.0 : (double) h / (h + m));
+        return out;
+    }
+
+    private synchronized void remove(Long id) {
+        generation++;
+        Payload old = entries.remove(id);
+        if (old != null) bytes -= old.json().length;
+    }
+
+    private void put(Long id, Payload payload) {
+        long size = payload.json().length;
+        if (size > maxBytes / 8) return; // one huge meeting must not flush everything else
+        Payload old = entries.put(id, payload);
+        if (old != null) bytes -= old.json().length;
+        bytes += size;
+        Iterator<Payload> it = entries.values().iterator();
+        while (bytes > maxBytes && it.hasNext()) {
+            bytes -= it.next().json().length;
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    static String etag(byte[] json) {
+        return "\"" + DigestUtils.md5DigestAsHex(json) + "\"";
+    }
+}
@@ -0,0 +1,180 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meetingnotes.meetingnotestracker.model.ActionItem;
+import com.meetingnotes.meetingnotestracker.model.ArchivedActionItem;
+import com.meetingnotes.meetingnotestracker.model.ArchivedMeeting;
+import com.meetingnotes.meetingnotestracker.model.Meeting;
+import com.meetingnotes.meetingnotestracker.model.MeetingSummary;
+import com.meetingnotes.meetingnotestracker.repo.MeetingRepo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/** Meeting writes, kept in one transaction with the indexes that derive from them. */
+@Service
+public class MeetingService {
+
+    private final MeetingRepo repo;
+    private final AnalysisService analysis;
+    private final SearchIndexService searchIndex;
+    private final SimilarityIndexService similarity;
+    private final PersonService people;
+    private final DueDateResolver dueDates;
+    private final TranscriptStore transcripts;
+    private final MeetingPayloadCache payloads;
+    private final ObjectMapper mapper;
+    private final TransactionTemplate tx;
+    private final Timer persistTimer;
+
+    public MeetingService(MeetingRepo repo, AnalysisService analysis, SearchIndexService searchIndex,
+                          SimilarityIndexService similarity, PersonService people, DueDateResolver dueDates, TranscriptStore transcripts,
+                          MeetingPayloadCache payloads, ObjectMapper mapper, TransactionTemplate tx,
+                          MeterRegistry registry) {
+        this.repo = repo;
+        this.analysis = analysis;
+        this.searchIndex = searchIndex;
+        this.similarity = similarity;
+        this.people = people;
+        this.dueDates = dueDates;
+        this.transcripts = transcripts;
+        this.payloads = payloads;
+        this.mapper = mapper;
+        this.tx = tx;
+        this.persistTimer = Timer.builder("meetings.persist")
+                .description("Saving a batch of meetings with links, transcripts and postings, including the flush")
+                .publishPercentiles(AnalysisMetrics.PERCENTILES)
+                .register(registry);
+    }
+
+    /** Analyzes outside any transaction, so a long transcript does not hold a pooled connection while it runs. */
+    public Meeting create(String title, String attendees, String transcript, Instant occurredAt) {
+        return persist(List.of(build(title, attendees, transcript, occurredAt))).get(0);
+    }
+
+    /** Analyzes the transcript and assembles an unsaved meeting; no database access. */
+    public Meeting build(String title, String attendees, String transcript, Instant occurredAt) {
+        Map<String,Object> analyzed = analysis.analyze(transcript);
+
+        Meeting m = new Meeting();
+        m.setTitle(title);
+        m.setAttendees(attendees);
+        m.setOccurredAt(occurredAt);
+        m.setTranscript(transcript);
+        m.setSummary(String.valueOf(analyzed.getOrDefault("summary","")));
+        m.setDecisions(String.join("\n", (List<String>) analyzed.getOrDefault("decisions", List.of())));
+
+        List<Map<String,String>> ai = (List<Map<String,String>>) analyzed.getOrDefault("actionItems", List.of());
+        List<ActionItem> items = new ArrayList<>();
+        for (Map<String,String> it : ai) {
+            ActionItem a = new ActionItem();
+            a.setOwner(it.getOrDefault("owner",""));
+            a.setTask(it.getOrDefault("task",""));
+            a.setDueDate(it.getOrDefault("due",""));
+            a.setDueOn(dueDates.resolve(a.getDueDate(), occurredAt));
+            a.setMeeting(m);
+            items.add(a);
+        }
+        m.setActionItems(items);
+        return m;
+    }
+
+    /** An unsaved meeting from an archive line, keeping its stored summary, decisions and action items. */
+    public Meeting assemble(ArchivedMeeting archived) {
+        Meeting m = new Meeting();
+        m.setTitle(archived.title());
+        m.setAttendees(archived.attendees());
+        m.setOccurredAt(archived.occurredAt());
+        m.setTranscript(archived.transcript());
+        m.setSummary(archived.summary());
+        m.setDecisions(archived.decisions() == null ? "" : archived.decisions());
+
+        List<ActionItem> items = new ArrayList<>();
+        for (ArchivedActionItem it : archived.actionItems() == null ? List.<ArchivedActionItem>of() : archived.actionItems()) {
+            ActionItem a = new ActionItem();
+            a.setOwner(it.owner() == null ? "" : it.owner());
+            a.setTask(it.task() == null ? "" : it.task());
+            a.setDueDate(it.dueDate() == null ? "" : it.dueDate());
+            a.setDueOn(it.dueOn() != null ? it.dueOn() : dueDates.resolve(a.getDueDate(), archived.occurredAt()));
+            if (it.status() != null) a.setStatus(it.status());
+            a.setMeeting(m);
+            items.add(a);
+        }
+        m.setActionItems(items);
+        return m;
+    }
+
+    /**
+     * Saves built meetings with their people links, transcripts and search/similarity entries in one transaction
+     * (JDBC-batched). New people are committed first in short transactions of their own, so call this outside
+     * any transaction.
+     */
+    public List<Meeting> persist(List<Meeting> built) {
+        people.createMissing(built);
+        return tx.execute(s -> persistTimer.record(() -> {
+            people.linkAll(built);
+            List<Meeting> saved = repo.saveAll(built);
+            for (Meeting m : saved) {
+                transcripts.save(m.getId(), m.getTranscript());
+                searchIndex.index(m, m.getTranscript());
+                similarity.index(m, m.getTranscript());
+            }
+            repo.flush(); // run the batched inserts inside the timed section
+            return saved;
+        }));
+    }
+
+    @Transactional
+    public boolean delete(Long id) {
+        if (!repo.existsById(id)) return false;
+        searchIndex.remove(id);
+        similarity.remove(id);
+        transcripts.remove(id);
+        repo.deleteById(id);
+        payloads.evict(id);
+        return true;
+    }
+
+    /** The GET /meetings/{id} body and its ETag; serialized once, then served from the payload cache. */
+    public Optional<MeetingPayloadCache.Payload> detail(Long id) {
+        return payloads.get(id, () -> tx.execute(s -> repo.findById(id).map(m -> {
+            try {
+                return mapper.writeValueAsBytes(m); // inside the transaction, for the lazy action items
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        })));
+    }
+
+    /** Writes every meeting summary as NDJSON straight from a DB cursor; heap use is independent of table size. */
+    @Transactional(readOnly = true)
+    public void writeSummaries(OutputStream rawOut) throws IOException {
+        OutputStream out = new BufferedOutputStream(rawOut);
+        try (Stream<MeetingSummary> rows = repo.streamSummaries()) {
+            rows.forEach(row -> {
+                try {
+                    out.write(mapper.writeValueAsBytes(row));
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+    }
+}
@@ -0,0 +1,188 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.meetingnotes.meetingnotestracker.model.ActionItem;
+import com.meetingnotes.meetingnotestracker.model.Meeting;
+import com.meetingnotes.meetingnotestracker.model.Person;
+import com.meetingnotes.meetingnotestracker.repo.ActionItemRepo;
+import com.meetingnotes.meetingnotestracker.repo.MeetingRepo;
+import com.meetingnotes.meetingnotestracker.repo.PersonRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Normalizes attendee lists and action-item owners into {@link Person} rows so per-person
+ * queries are indexed lookups instead of substring scans over the free-text columns.
+ */
+@Service
+public class PersonService {
+
+    private static final Logger log = LoggerFactory.getLogger(PersonService.class);
+    private static final int BACKFILL_BATCH = 200;
+    private static final int CREATE_ATTEMPTS = 3;
+
+    private final PersonRepo people;
+    private final MeetingRepo meetings;
+    private final ActionItemRepo actionItems;
+    private final TransactionTemplate tx;
+
+    public PersonService(PersonRepo people, MeetingRepo meetings, ActionItemRepo actionItems, TransactionTemplate tx) {
+        this.people = people;
+        this.meetings = meetings;
+        this.actionItems = actionItems;
+        this.tx = tx;
+    }
+
+    public Optional<Person> find(String name) {
+        return people.findByNormalizedName(Person.normalize(name));
+    }
+
+    /**
+     * Commits the people that meetings about to be saved will link to; call before their transaction opens.
+     * Two meetings saved at once with the same new name then both link to one row, and a save never needs a
+     * second pooled connection while it holds one.
+     */
+    public void createMissing(Collection<Meeting> batch) {
+        createMissingNames(names(batch));
+    }
+
+    private void createMissingNames(Collection<String> names) {
+        Map<String, String> wanted = wanted(names);
+        if (wanted.isEmpty()) return;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                tx.executeWithoutResult(s -> insertMissing(wanted));
+                return;
+            } catch (DataIntegrityViolationException e) {
+                // another transaction committed one of these names first; the next attempt skips it
+                if (attempt == CREATE_ATTEMPTS) throw e;
+            }
+        }
+    }
+
+    /**
+     * Links attendees and owners of meetings that are being saved; call inside their transaction, after
+     * {@link #createMissing}. All names are looked up at once, since every lookup also auto-flushes the session.
+     */
+    public void linkAll(Collection<Meeting> batch) {
+        Map<String, Person> resolved = resolve(names(batch));
+
+        for (Meeting m : batch) {
+            Set<Person> attendees = new LinkedHashSet<>();
+            for (String n : splitAttendees(m.getAttendees())) attendees.add(resolved.get(Person.normalize(n)));
+            m.setAttendeePeople(attendees);
+            for (ActionItem a : m.getActionItems()) a.setOwnerPerson(resolved.get(Person.normalize(a.getOwner())));
+        }
+    }
+
+    private static List<String> names(Collection<Meeting> batch) {
+        List<String> names = new ArrayList<>();
+        for (Meeting m : batch) {
+            names.addAll(splitAttendees(m.getAttendees()));
+            for (ActionItem a : m.getActionItems()) names.add(a.getOwner());
+        }
+        return names;
+    }
+
+    /** Normalized name -> display name (first seen); blank names are skipped. */
+    private static Map<String, String> wanted(Collection<String> names) {
+        Map<String, String> wanted = new LinkedHashMap<>();
+        for (String n : names) {
+            String key = Person.normalize(n);
+            if (!key.isEmpty()) wanted.putIfAbsent(key, n.trim().replaceAll("\\s+", " "));
+        }
+        return wanted;
+    }
+
+    /**
+     * Normalized name -> person in the current transaction; people still missing are inserted on its
+     * connection (none are once {@link #createMissing} has run). Blank names are skipped.
+     */
+    Map<String, Person> resolve(Collection<String> names) {
+        Map<String, String> wanted = wanted(names);
+        Map<String, Person> out = new HashMap<>();
+        if (wanted.isEmpty()) return out;
+        for (Person p : people.findByNormalizedNameIn(wanted.keySet())) out.put(p.getNormalizedName(), p);
+        if (out.size() == wanted.size()) return out;
+        wanted.keySet().removeAll(out.keySet());
+        for (Person p : insertMissing(wanted)) out.put(p.getNormalizedName(), p);
+        return out;
+    }
+
+    private List<Person> insertMissing(Map<String, String> missing) {
+        Set<String> existing = new HashSet<>();
+        for (Person p : people.findByNormalizedNameIn(missing.keySet())) existing.add(p.getNormalizedName());
+        List<Person> created = new ArrayList<>();
+        missing.forEach((key, display) -> {
+            if (existing.contains(key)) return;
+            Person p = new Person();
+            p.setName(display);
+            p.setNormalizedName(key);
+            created.add(p);
+        });
+        return people.saveAll(created);
+    }
+
+    static List<String> splitAttendees(String attendees) {
+        List<String> out = new ArrayList<>();
+        if (attendees == null) return out;
+        for (String part : attendees.split("[,;]")) {
+            if (!part.isBlank()) out.add(part.trim());
+        }
+        return out;
+    }
+
+    /**
+     * Migration for rows saved before people were normalized; runs in small transactions, creating each
+     * batch's people before the transaction that links them, like a save.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        tx.executeWithoutResult(s -> actionItems.defaultMissingStatus());
+        long linkedMeetings = 0, linkedItems = 0;
+        long after = 0;
+        while (true) {
+            long from = after;
+            createMissingNames(tx.execute(s -> meetings.findUnlinkedAttendees(from, Limit.of(BACKFILL_BATCH)).stream()
+                    .flatMap(m -> splitAttendees(m.getAttendees()).stream()).toList()));
+            List<Long> ids = tx.execute(s -> {
+                List<Meeting> batch = meetings.findUnlinkedAttendees(from, Limit.of(BACKFILL_BATCH));
+                Map<String, Person> resolved = resolve(batch.stream().flatMap(m -> splitAttendees(m.getAttendees()).stream()).toList());
+                for (Meeting m : batch) {
+                    Set<Person> attendees = new LinkedHashSet<>();
+                    for (String n : splitAttendees(m.getAttendees())) attendees.add(resolved.get(Person.normalize(n)));
+                    m.setAttendeePeople(attendees);
+                }
+                return batch.stream().map(Meeting::getId).toList();
+            });
+            if (ids == null || ids.isEmpty()) break;
+            linkedMeetings += ids.size();
+            after = ids.get(ids.size() - 1);
+        }
+        after = 0;
+        while (true) {
+            long from = after;
+            createMissingNames(tx.execute(s -> actionItems.findUnlinkedOwners(from, Limit.of(BACKFILL_BATCH)).stream()
+                    .map(ActionItem::getOwner).toList()));
+            List<Long> ids = tx.execute(s -> {
+                List<ActionItem> batch = actionItems.findUnlinkedOwners(from, Limit.of(BACKFILL_BATCH));
+                Map<String, Person> resolved = resolve(batch.stream().map(ActionItem::getOwner).toList());
+                for (ActionItem a : batch) a.setOwnerPerson(resolved.get(Person.normalize(a.getOwner())));
+                return batch.stream().map(ActionItem::getId).toList();
+            });
+            if (ids == null || ids.isEmpty()) break;
+            linkedItems += ids.size();
+            after = ids.get(ids.size() - 1);
+        }
+        if (linkedMeetings + linkedItems > 0) {
+            log.info("Linked people for {} meetings and {} action items", linkedMeetings, linkedItems);
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.meetingnotes.meetingnotestracker.model.ActionItem;
+import com.meetingnotes.meetingnotestracker.model.IndexState;
+import com.meetingnotes.meetingnotestracker.model.Meeting;
+import com.meetingnotes.meetingnotestracker.model.SearchPosting;
+import com.meetingnotes.meetingnotestracker.repo.IndexStateRepo;
+import com.meetingnotes.meetingnotestracker.repo.MeetingRepo;
+import com.meetingnotes.meetingnotestracker.repo.SearchPostingRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over meeting title, transcript, summary, decisions and action-item tasks, kept in
+ * the {@link SearchPosting} table. Updated in the same transaction as meeting writes. On startup a
+ * rebuild that never completed (no {@link IndexState} marker, e.g. a new database or an interrupted run)
+ * resumes from its cursor; search.rebuild-on-startup=true starts one over.
+ *
+ * Queries are AND over terms and "quoted phrases". Postings of the rarest term seed the candidate
+ * set and every other term is only looked up for those candidates, so cost follows the most
+ * selective term rather than the number of meetings. The seed is capped at the newest
+ * {@code search.max-candidates} postings: a query whose every term is common then ranks only recent
+ * meetings and reports an estimated total, instead of growing with the corpus. Ranking is BM25-style
+ * with field weights; only the requested pages are kept in order (a bounded heap, not a full sort).
+ *
+ * Transcript terms also feed {@link CorpusStats}, the document frequencies behind summary scoring.
+ */
+@Service
+public class SearchIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+    private static final Pattern QUERY_PART = Pattern.compile("\"([^\"]*)\"|(\\S+)");
+    private static final int ID_CHUNK = 1000;
+    private static final int REBUILD_BATCH = 200;
+    private static final String STATE = "search";
+    private static final Map<SearchPosting.Field, Double> FIELD_WEIGHT = Map.of(
+            SearchPosting.Field.TITLE, 3.0,
+            SearchPosting.Field.SUMMARY, 1.5,
+            SearchPosting.Field.DECISIONS, 1.5,
+            SearchPosting.Field.ACTION_ITEMS, 1.5,
+            SearchPosting.Field.TRANSCRIPT, 1.0);
+
+    private final SearchPostingRepo postings;
+    private final MeetingRepo meetings;
+    private final IndexStateRepo states;
+    private final TranscriptStore transcripts;
+    private final CorpusStats corpus;
+    private final TransactionTemplate tx;
+    private final boolean rebuildOnStartup;
+    private final int maxCandidates;
+
+    public SearchIndexService(SearchPostingRepo postings, MeetingRepo meetings, IndexStateRepo states,
+                              TranscriptStore transcripts, CorpusStats corpus, TransactionTemplate tx,
+                              @Value("${search.rebuild-on-startup:false}") boolean rebuildOnStartup,
+                              @Value("${search.max-candidates:5000}") int maxCandidates) {
+        this.postings = postings;
+        this.meetings = meetings;
+        this.states = states;
+        this.transcripts = transcripts;
+        this.corpus = corpus;
+        this.tx = tx;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.maxCandidates = Math.max(1, maxCandidates);
+    }
+
+    /** {@code exact} is false when the candidate cap was hit and {@code total} is extrapolated. */
+    public record Hits(long total, boolean exact, List<Long> meetingIds) {}
+
+    // ---------- indexing ----------
+
+    /** Adds postings for a saved meeting; call inside the transaction that saved it. */
+    public void index(Meeting m, String transcript) {
+        List<SearchPosting> out = new ArrayList<>();
+        addField(out, m.getId(), SearchPosting.Field.TITLE, m.getTitle());
+        corpus.added(addField(out, m.getId(), SearchPosting.Field.TRANSCRIPT, transcript));
+        addField(out, m.getId(), SearchPosting.Field.SUMMARY, m.getSummary());
+        addField(out, m.getId(), SearchPosting.Field.DECISIONS, m.getDecisions());
+        StringJoiner tasks = new StringJoiner("\n");
+        for (ActionItem a : m.getActionItems()) if (a.getTask() != null) tasks.add(a.getTask());
+        addField(out, m.getId(), SearchPosting.Field.ACTION_ITEMS, tasks.toString());
+        postings.saveAll(out);
+    }
+
+    public void remove(Long meetingId) {
+        corpus.removed(postings.findTerms(meetingId, SearchPosting.Field.TRANSCRIPT));
+        postings.deleteByMeetingId(meetingId);
+    }
+
+    /** Adds the field's postings and returns its distinct terms. */
+    private Set<String> addField(List<SearchPosting> out, Long meetingId, SearchPosting.Field field, String text) {
+        List<String> tokens = Tokenizer.tokens(text);
+        Map<String, List<Integer>> positions = new LinkedHashMap<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String t = tokens.get(i);
+            if (!t.isEmpty()) positions.computeIfAbsent(t, k -> new ArrayList<>()).add(i);
+        }
+        for (Map.Entry<String, List<Integer>> e : positions.entrySet()) {
+            SearchPosting p = new SearchPosting();
+            p.setTerm(e.getKey());
+            p.setMeetingId(meetingId);
+            p.setField(field);
+            p.setTf(e.getValue().size());
+            p.setPositions(encode(e.getValue()));
+            out.add(p);
+        }
+        return positions.keySet();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeeded() {
+        Optional<IndexState> state = states.findById(STATE);
+        if (rebuildOnStartup) {
+            rebuild();
+        } else if (state.isEmpty() || !state.get().isComplete()) {
+            long after = state.map(IndexState::getLastMeetingId).orElse(0L);
+            log.info("Search index incomplete; indexing meetings after id {}", after);
+            resume(after);
+        } else {
+            loadCorpusStats();
+        }
+    }
+
+    /** Drops every posting and indexes all meetings again. */
+    public void rebuild() {
+        tx.executeWithoutResult(s -> {
+            postings.deleteAllInBatch();
+            states.save(state(0L, false));
+        });
+        resume(0L);
+    }
+
+    /**
+     * Indexes the meetings after {@code after} in id order, one batch per transaction that also moves the
+     * cursor, then marks the index complete. A batch replaces whatever postings its meetings already have,
+     * so meetings saved meanwhile (indexed by their own transaction) or covered by an interrupted run are
+     * not indexed twice; corpus statistics are reloaded from the postings at the end.
+     */
+    private void resume(long after) {
+        long started = System.currentTimeMillis();
+        long indexed = 0;
+        long cursor = after;
+        while (true) {
+            long from = cursor;
+            List<Long> ids = tx.execute(s -> {
+                List<Meeting> batch = meetings.findAfter(from, Limit.of(REBUILD_BATCH));
+                if (batch.isEmpty()) return List.<Long>of();
+                List<Long> batchIds = batch.stream().map(Meeting::getId).toList();
+                postings.deleteByMeetingIdIn(batchIds);
+                Map<Long, String> text = transcripts.loadAll(batchIds);
+                batch.forEach(m -> index(m, text.getOrDefault(m.getId(), "")));
+                states.save(state(batchIds.get(batchIds.size() - 1), false));
+                return batchIds;
+            });
+            if (ids == null || ids.isEmpty()) break;
+            cursor = ids.get(ids.size() - 1);
+            indexed += ids.size();
+        }
+        long last = cursor;
+        tx.executeWithoutResult(s -> states.save(state(last, true)));
+        log.info("Indexed {} meetings for search in {} ms", indexed, System.currentTimeMillis() - started);
+        loadCorpusStats();
+    }
+
+    private static IndexState state(long lastMeetingId, boolean complete) {
+        IndexState s = new IndexState();
+        s.setName(STATE);
+        s.setLastMeetingId(lastMeetingId);
+        s.setComplete(complete);
+        return s;
+    }
+
+    /** Document frequencies from the transcript postings: one grouped query, no transcript is read. */
+    private void loadCorpusStats() {
+        tx.executeWithoutResult(s -> {
+            Map<String, Integer> df = new HashMap<>();
+            for (SearchPostingRepo.TermCount c : postings.countDocumentsByTerm(SearchPosting.Field.TRANSCRIPT)) {
+                df.put(c.getTerm(), (int) c.getDocuments());
+            }
+            corpus.reset(df, meetings.count());
+        });
+        log.info("Corpus statistics: {}", corpus.stats());
+    }
+
+    // ---------- querying ----------
+
+    public Hits search(String query, int page, int size) {
+        List<List<String>> clauses = parse(query);
+        Set<String> terms = new LinkedHashSet<>();
+        clauses.forEach(terms::addAll);
+        if (terms.isEmpty()) return new Hits(0, true, List.of());
+
+        // One capped read per term gives its document frequency (estimated from the corpus statistics past
+        // the cap) and, for the rarest term, the seed; no query reads more than max-candidates postings
+        Map<String, Long> df = new HashMap<>();
+        String rarest = null;
+        List<SearchPostingRepo.PostingView> seed = List.of();
+        boolean exact = true;
+        for (String t : terms) {
+            List<SearchPostingRepo.PostingView> newest = postings.findNewestViewsByTerm(t, Limit.of(maxCandidates));
+            if (newest.isEmpty()) return new Hits(0, true, List.of()); // AND semantics: a missing term matches nothing
+            boolean cut = newest.size() == maxCandidates;
+            long f = newest.stream().map(SearchPostingRepo.PostingView::getMeetingId).distinct().count();
+            if (cut) f = Math.max(f, corpus.frequency(t));
+            df.put(t, f);
+            if (rarest == null || f < df.get(rarest)) {
+                rarest = t;
+                seed = newest;
+                exact = !cut;
+            }
+        }
+        long n = Math.max(1, corpus.documents());
+        String first = rarest;
+        List<String> others = terms.stream().filter(t -> !t.equals(first)).sorted(Comparator.comparing(df::get)).toList();
+
+        // Seed candidates with the rarest term's newest postings, then narrow with each of the others
+        Map<Long, Double> scores = new HashMap<>();
+        // a cut seed may end partway through the oldest meeting's fields; leave that meeting out
+        long oldest = exact ? Long.MIN_VALUE : seed.get(seed.size() - 1).getMeetingId();
+        for (SearchPostingRepo.PostingView v : seed) {
+            if (v.getMeetingId() != oldest) scores.merge(v.getMeetingId(), weight(v, df.get(rarest), n), Double::sum);
+        }
+        int seeded = scores.size();
+        for (String t : others) {
+            Map<Long, Double> next = new HashMap<>();
+            for (List<Long> ids : chunks(scores.keySet())) {
+                for (SearchPostingRepo.PostingView v : postings.findViewsByTermAndMeetingIds(t, ids.get(0), ids.get(ids.size() - 1), ids)) {
+                    next.merge(v.getMeetingId(), weight(v, df.get(t), n), Double::sum);
+                }
+            }
+            next.replaceAll((id, s) -> s + scores.get(id));
+            scores.clear();
+            scores.putAll(next);
+            if (scores.isEmpty()) break;
+        }
+
+        for (List<String> phrase : clauses) {
+            if (phrase.size() > 1 && !scores.isEmpty()) scores.keySet().retainAll(matchingPhrase(phrase, scores.keySet()));
+        }
+
+        // matches among the seeded meetings, scaled to all meetings that have the rarest term
+        long total = exact || seeded == 0 ? scores.size()
+                : Math.max(scores.size(), Math.round((double) scores.size() / seeded * df.get(rarest)));
+        return new Hits(total, exact, topPage(scores, page, size));
+    }
+
+    private static final Comparator<Map.Entry<Long, Double>> BEST_FIRST =
+            Map.Entry.<Long, Double>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed());
+
+    /** Ids on the requested page, best first; keeps only the (page+1)*size best entries in a heap. */
+    private static List<Long> topPage(Map<Long, Double> scores, int page, int size) {
+        long keep = Math.min((long) (page + 1) * size, scores.size());
+        if (keep <= (long) page * size) return List.of();
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>((int) keep + 1, BEST_FIRST.reversed());
+        for (Map.Entry<Long, Double> e : scores.entrySet()) {
+            if (heap.size() < keep) {
+                heap.add(e);
+            } else if (BEST_FIRST.compare(e, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(e);
+            }
+        }
+        List<Map.Entry<Long, Double>> best = new ArrayList<>(heap);
+        best.sort(BEST_FIRST);
+        return best.subList(page * size, best.size()).stream().map(Map.Entry::getKey).toList();
+    }
+
+    private static double weight(SearchPostingRepo.PostingView v, long df, long n) {
+        double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+        double tf = v.getTf();
+        return FIELD_WEIGHT.get(v.getField()) * idf * (tf * 2.2) / (tf + 1.2);
+    }
+
+    /** Meetings (among candidates) where the phrase's terms occur at consecutive positions in one field. */
+    private Set<Long> matchingPhrase(List<String> phrase, Set<Long> candidates) {
+        Set<Long> matched = new HashSet<>();
+        Set<String> distinct = new HashSet<>(phrase);
+        for (List<Long> ids : chunks(candidates)) {
+            // meeting -> field -> term -> positions
+            Map<Long, Map<SearchPosting.Field, Map<String, int[]>>> pos = new HashMap<>();
+            for (String term : distinct) {
+                for (SearchPosting p : postings.findByTermAndMeetingIds(term, ids.get(0), ids.get(ids.size() - 1), ids)) {
+                    pos.computeIfAbsent(p.getMeetingId(), k -> new EnumMap<>(SearchPosting.Field.class))
+                            .computeIfAbsent(p.getField(), k -> new HashMap<>())
+                            .put(p.getTerm(), decode(p.getPositions()));
+                }
+            }
+            pos.forEach((meetingId, fields) -> {
+                for (Map<String, int[]> byTerm : fields.values()) {
+                    if (containsPhrase(phrase, byTerm)) { matched.add(meetingId); break; }
+                }
+            });
+        }
+        return matched;
+    }
+
+    private static boolean containsPhrase(List<String> phrase, Map<String, int[]> byTerm) {
+        int[] first = byTerm.get(phrase.get(0));
+        if (first == null) return false;
+        outer:
+        for (int start : first) {
+            for (int j = 1; j < phrase.size(); j++) {
+                int[] p = byTerm.get(phrase.get(j));
+                if (p == null || Arrays.binarySearch(p, start + j) < 0) continue outer;
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /** Quoted parts become phrases; bare words become single terms (or phrases if they split, e.g. "e-mail"). */
+    private static List<List<String>> parse(String query) {
+        List<List<String>> clauses = new ArrayList<>();
+        if (query == null) return clauses;
+        Matcher m = QUERY_PART.matcher(query);
+        while (m.find()) {
+            List<String> toks = Tokenizer.tokens(m.group(1) != null ? m.group(1) : m.group(2));
+            toks.removeIf(String::isEmpty);
+            if (!toks.isEmpty()) clauses.add(toks);
+        }
+        return clauses;
+    }
+
+    /** Ascending id chunks, so each one's first and last id bound an index range. */
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> all = new ArrayList<>(ids);
+        Collections.sort(all);
+        List<List<Long>> out = new ArrayList<>();
+        for (int i = 0; i < all.size(); i += ID_CHUNK) out.add(all.subList(i, Math.min(all.size(), i + ID_CHUNK)));
+        return out;
+    }
+
+    // ---------- position encoding: varint gaps ----------
+
+    static byte[] encode(List<Integer> positions) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(positions.size() * 2);
+        int prev = 0;
+        for (int p : positions) {
+            int gap = p - prev;
+            prev = p;
+            while ((gap & ~0x7F) != 0) { out.write((gap & 0x7F) | 0x80); gap >>>= 7; }
+            out.write(gap);
+        }
+        return out.toByteArray();
+    }
+
+    static int[] decode(byte[] bytes) {
+        if (bytes == null) return new int[0];
+        int[] out = new int[bytes.length];
+        int n = 0, prev = 0;
+        for (int i = 0; i < bytes.length; ) {
+            int gap = 0, shift = 0, b;
+            do { b = bytes[i++]; gap |= (b & 0x7F) << shift; shift += 7; } while ((b & 0x80) != 0);
+            prev += gap;
+            out[n++] = prev;
+        }
+        return Arrays.copyOf(out, n);
+    }
+}
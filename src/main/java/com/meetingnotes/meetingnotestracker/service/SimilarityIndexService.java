@@ -0,0 +1,303 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.meetingnotes.meetingnotestracker.model.IndexState;
+import com.meetingnotes.meetingnotestracker.model.LshBucket;
+import com.meetingnotes.meetingnotestracker.model.Meeting;
+import com.meetingnotes.meetingnotestracker.model.MeetingSignature;
+import com.meetingnotes.meetingnotestracker.repo.IndexStateRepo;
+import com.meetingnotes.meetingnotestracker.repo.LshBucketRepo;
+import com.meetingnotes.meetingnotestracker.repo.MeetingRepo;
+import com.meetingnotes.meetingnotestracker.repo.MeetingSignatureRepo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Near-duplicate and related-meeting lookup. Each transcript's distinct content terms are reduced to a
+ * MinHash signature, whose agreement between two meetings estimates the Jaccard similarity of their term
+ * sets. The signature is cut into bands of a few rows and the meeting is filed in the {@link LshBucket}
+ * table under each band's hash, so meetings that share a bucket are likely similar and everything else
+ * is never looked at.
+ *
+ * A lookup reads one index range per band (capped at the newest {@code max-bucket-scan} meetings, so a
+ * crowded bucket cannot make it linear), ranks candidates by shared bands and scores the best of them
+ * against their stored signatures. Cost follows the band count and the caps, not the number of meetings.
+ *
+ * Like the search index, signatures and buckets are written in the same transaction as the meeting. On
+ * startup a pass that never completed (tracked in {@link IndexState}) resumes from its cursor, and the
+ * index is dropped and rebuilt when bands/rows changed or similarity.rebuild-on-startup=true.
+ */
+@Service
+public class SimilarityIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarityIndexService.class);
+    private static final int REBUILD_BATCH = 200;
+    private static final String STATE = "similarity";
+
+    private final MeetingSignatureRepo signatures;
+    private final LshBucketRepo buckets;
+    private final MeetingRepo meetings;
+    private final IndexStateRepo states;
+    private final TranscriptStore transcripts;
+    private final TransactionTemplate tx;
+    private final int bands;
+    private final int rows;
+    private final int maxBucketScan;
+    private final int maxCandidates;
+    private final boolean rebuildOnStartup;
+
+    public SimilarityIndexService(MeetingSignatureRepo signatures, LshBucketRepo buckets, MeetingRepo meetings,
+                                  IndexStateRepo states, TranscriptStore transcripts, TransactionTemplate tx,
+                                  @Value("${similarity.bands:32}") int bands,
+                                  @Value("${similarity.rows:4}") int rows,
+                                  @Value("${similarity.max-bucket-scan:200}") int maxBucketScan,
+                                  @Value("${similarity.max-candidates:500}") int maxCandidates,
+                                  @Value("${similarity.rebuild-on-startup:false}") boolean rebuildOnStartup) {
+        if (bands < 1 || rows < 1 || bands * rows * Integer.BYTES > MeetingSignature.MAX_BYTES) {
+            throw new IllegalArgumentException("similarity.bands x similarity.rows must be between 1 and "
+                    + MeetingSignature.MAX_BYTES / Integer.BYTES);
+        }
+        this.signatures = signatures;
+        this.buckets = buckets;
+        this.meetings = meetings;
+        this.states = states;
+        this.transcripts = transcripts;
+        this.tx = tx;
+        this.bands = bands;
+        this.rows = rows;
+        this.maxBucketScan = Math.max(1, maxBucketScan);
+        this.maxCandidates = Math.max(1, maxCandidates);
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    public record Match(Long meetingId, double similarity) {}
+
+    // ---------- indexing ----------
+
+    /** Stores the signature and bucket entries of a saved meeting; call inside the transaction that saved it. */
+    public void index(Meeting m, String transcript) {
+        index(m.getId(), transcript);
+    }
+
+    private void index(Long meetingId, String transcript) {
+        int[] sig = signature(transcript, bands * rows);
+        if (sig == null) return; // no content terms: nothing to compare
+        MeetingSignature s = new MeetingSignature();
+        s.setMeetingId(meetingId);
+        s.setMinhashes(encode(sig));
+        signatures.save(s);
+        List<LshBucket> out = new ArrayList<>(bands);
+        for (long key : bucketKeys(sig, bands, rows)) {
+            LshBucket b = new LshBucket();
+            b.setBucket(key);
+            b.setMeetingId(meetingId);
+            out.add(b);
+        }
+        buckets.saveAll(out);
+    }
+
+    public void remove(Long meetingId) {
+        buckets.deleteByMeetingId(meetingId);
+        signatures.deleteByMeetingId(meetingId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfNeeded() {
+        Optional<IndexState> state = states.findById(STATE);
+        // without a marker (an index built before it existed) the stored signatures tell the shape
+        boolean reshaped = state.isPresent()
+                ? !config().equals(state.get().getConfig())
+                : signatures.findFirstByOrderByMeetingIdAsc()
+                        .filter(s -> s.getMinhashes().length != bands * rows * Integer.BYTES).isPresent();
+        if (reshaped) log.info("Similarity signatures do not match {} bands x {} rows; rebuilding", bands, rows);
+        if (rebuildOnStartup || reshaped) {
+            rebuild();
+        } else if (state.isEmpty() || !state.get().isComplete()) {
+            long after = state.map(IndexState::getLastMeetingId).orElse(0L);
+            log.info("Similarity index incomplete; indexing meetings after id {}", after);
+            resume(after);
+        }
+    }
+
+    /** Drops every signature and bucket entry and indexes all meetings again. */
+    public void rebuild() {
+        tx.executeWithoutResult(s -> {
+            buckets.deleteAllInBatch();
+            signatures.deleteAllInBatch();
+            states.save(state(0L, false));
+        });
+        resume(0L);
+    }
+
+    /**
+     * Indexes the meetings after {@code after} that have no signature yet, in id order, one batch per
+     * transaction that also moves the cursor, then marks the index complete. Meetings saved meanwhile
+     * already have theirs from their own transaction and are skipped.
+     */
+    private void resume(long after) {
+        long started = System.currentTimeMillis();
+        long indexed = 0;
+        long cursor = after;
+        while (true) {
+            long from = cursor;
+            long[] batch = tx.execute(s -> {
+                List<Long> ids = meetings.findIdsAfter(from, Limit.of(REBUILD_BATCH));
+                if (ids.isEmpty()) return null;
+                List<Long> missing = new ArrayList<>(ids);
+                missing.removeAll(new HashSet<>(signatures.findExistingIds(ids)));
+                Map<Long, String> text = transcripts.loadAll(missing);
+                for (Long id : missing) index(id, text.getOrDefault(id, ""));
+                long last = ids.get(ids.size() - 1);
+                states.save(state(last, false));
+                return new long[]{last, missing.size()};
+            });
+            if (batch == null) break;
+            cursor = batch[0];
+            indexed += batch[1];
+        }
+        long last = cursor;
+        tx.executeWithoutResult(s -> states.save(state(last, true)));
+        log.info("Indexed {} meetings for similarity in {} ms", indexed, System.currentTimeMillis() - started);
+    }
+
+    private String config() {
+        return bands + "x" + rows;
+    }
+
+    private IndexState state(long lastMeetingId, boolean complete) {
+        IndexState s = new IndexState();
+        s.setName(STATE);
+        s.setConfig(config());
+        s.setLastMeetingId(lastMeetingId);
+        s.setComplete(complete);
+        return s;
+    }
+
+    // ---------- querying ----------
+
+    /**
+     * Up to {@code limit} meetings whose estimated similarity to the given one is at least {@code minSimilarity},
+     * most similar first; empty when the meeting does not exist.
+     */
+    public Optional<List<Match>> similar(Long meetingId, int limit, double minSimilarity) {
+        return tx.execute(s -> {
+            List<MeetingSignatureRepo.SignatureView> own = signatures.findViews(List.of(meetingId));
+            if (own.isEmpty()) return meetings.existsById(meetingId) ? Optional.of(List.<Match>of()) : Optional.<List<Match>>empty();
+            int[] sig = decode(own.get(0).getMinhashes());
+
+            Map<Long, Integer> shared = new HashMap<>();
+            for (long key : bucketKeys(sig, bands, rows)) {
+                for (Long id : buckets.findMeetingIds(key, Limit.of(maxBucketScan))) {
+                    if (!id.equals(meetingId)) shared.merge(id, 1, Integer::sum);
+                }
+            }
+            List<Long> candidates = shared.entrySet().stream()
+                    .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                            .thenComparing(Map.Entry.<Long, Integer>comparingByKey().reversed()))
+                    .limit(maxCandidates)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            if (candidates.isEmpty()) return Optional.of(List.<Match>of());
+
+            List<Match> matches = new ArrayList<>();
+            for (MeetingSignatureRepo.SignatureView other : signatures.findViews(candidates)) {
+                double sim = estimate(sig, decode(other.getMinhashes()));
+                if (sim >= minSimilarity) matches.add(new Match(other.getMeetingId(), sim));
+            }
+            matches.sort(Comparator.comparingDouble(Match::similarity).reversed()
+                    .thenComparing(Comparator.comparing(Match::meetingId).reversed()));
+            return Optional.of(matches.subList(0, Math.min(limit, matches.size())));
+        });
+    }
+
+    public Map<String, Object> stats() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("bands", bands);
+        out.put("rows", rows);
+        // a band matches with probability j^rows, so candidates start showing up around this similarity
+        out.put("threshold", Math.pow(1.0 / bands, 1.0 / rows));
+        out.put("signatures", signatures.count());
+        out.put("maxBucketScan", maxBucketScan);
+        out.put("maxCandidates", maxCandidates);
+        return out;
+    }
+
+    // ---------- MinHash ----------
+
+    /**
+     * MinHash over the distinct content terms, or null when there are none. The i-th hash function is
+     * h1 + i*h2 of one 64-bit term hash, mixed, so a term is hashed once rather than once per function.
+     */
+    static int[] signature(String text, int hashes) {
+        Set<String> terms = new HashSet<>();
+        for (String t : Tokenizer.tokens(text)) if (!t.isEmpty() && Tokenizer.isContent(t)) terms.add(t);
+        if (terms.isEmpty()) return null;
+        int[] sig = new int[hashes];
+        Arrays.fill(sig, Integer.MAX_VALUE);
+        for (String t : terms) {
+            long h = hash64(t);
+            int h1 = (int) h, h2 = (int) (h >>> 32) | 1;
+            for (int i = 0; i < hashes; i++) {
+                int v = mix32(h1 + i * h2);
+                if (v < sig[i]) sig[i] = v;
+            }
+        }
+        return sig;
+    }
+
+    /** Share of positions where the signatures agree: an unbiased estimate of the Jaccard similarity. */
+    static double estimate(int[] a, int[] b) {
+        int n = Math.min(a.length, b.length), same = 0;
+        for (int i = 0; i < n; i++) if (a[i] == b[i]) same++;
+        return n == 0 ? 0 : (double) same / n;
+    }
+
+    static long[] bucketKeys(int[] sig, int bands, int rows) {
+        long[] keys = new long[bands];
+        for (int b = 0; b < bands; b++) {
+            int h = b;
+            for (int r = 0; r < rows; r++) h = 31 * h + sig[b * rows + r];
+            keys[b] = ((long) b << 32) | (mix32(h) & 0xFFFFFFFFL);
+        }
+        return keys;
+    }
+
+    // FNV-1a over UTF-8, finished with the murmur3 64-bit mix
+    private static long hash64(String term) {
+        long h = 0xcbf29ce484222325L;
+        for (byte c : term.getBytes(StandardCharsets.UTF_8)) {
+            h ^= c & 0xFF;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33; h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33; h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    private static int mix32(int h) {
+        h ^= h >>> 16; h *= 0x85ebca6b;
+        h ^= h >>> 13; h *= 0xc2b2ae35;
+        return h ^ (h >>> 16);
+    }
+
+    static byte[] encode(int[] sig) {
+        ByteBuffer buf = ByteBuffer.allocate(sig.length * Integer.BYTES);
+        for (int v : sig) buf.putInt(v);
+        return buf.array();
+    }
+
+    static int[] decode(byte[] bytes) {
+        int[] out = new int[bytes.length / Integer.BYTES];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(out);
+        return out;
+    }
+}
@@ -0,0 +1,43 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/** Lower-cased letter/digit runs; shared by indexing and query parsing so both agree on terms. */
+public final class Tokenizer {
+
+    public static final int MAX_TERM_LENGTH = 64;
+
+    // Function words carry no topic; left out of summary scoring and similarity signatures
+    private static final Set<String> STOPWORDS = Set.of(
+            "a","an","the","and","or","but","so","if","of","to","in","on","at","by","for","with","from","as",
+            "is","are","was","were","be","been","it","its","this","that","these","those","there","here",
+            "i","we","you","he","she","they","me","us","our","your","my","his","her","their","them",
+            "do","does","did","have","has","had","will","would","can","could","should","just","not","no",
+            "yes","ok","okay","um","uh","like","all","some","any","about","up","out","then","than","also");
+
+    private Tokenizer() {}
+
+    public static List<String> tokens(String text) {
+        List<String> out = new ArrayList<>();
+        if (text == null) return out;
+        StringBuilder cur = new StringBuilder();
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                cur.append(Character.toLowerCase(c));
+            } else if (!cur.isEmpty()) {
+                // over-long runs (hashes, URLs) keep their position but are not indexable
+                out.add(cur.length() <= MAX_TERM_LENGTH ? cur.toString() : "");
+                cur.setLength(0);
+            }
+        }
+        return out;
+    }
+
+    /** A token that says something about the topic: longer than one character and not a function word. */
+    public static boolean isContent(String token) {
+        return token.length() > 1 && !STOPWORDS.contains(token);
+    }
+}
@@ -0,0 +1,157 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.meetingnotes.meetingnotestracker.model.TranscriptBlob;
+import com.meetingnotes.meetingnotestracker.repo.TranscriptBlobRepo;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Transcripts live in the transcript_blob table, Deflate-compressed, one row per meeting. Meeting
+ * rows and their queries never touch them; the text is inflated only when it is actually read,
+ * and {@link #write} streams it straight from the database LOB to the caller.
+ */
+@Service
+public class TranscriptStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TranscriptStore.class);
+    private static final int MIGRATION_BATCH = 200;
+    private static final int STREAM_FETCH_SIZE = 100;
+
+    private final TranscriptBlobRepo blobs;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+
+    public TranscriptStore(TranscriptBlobRepo blobs, JdbcTemplate jdbc, TransactionTemplate tx) {
+        this.blobs = blobs;
+        this.jdbc = jdbc;
+        this.tx = tx;
+    }
+
+    /** Stores a new meeting's transcript; call inside the transaction that saved the meeting. */
+    public void save(Long meetingId, String transcript) {
+        blobs.save(blob(meetingId, transcript));
+    }
+
+    public void remove(Long meetingId) {
+        blobs.deleteByMeetingId(meetingId);
+    }
+
+    /** Whole transcript, or "" when the meeting has none. */
+    public String load(Long meetingId) {
+        return blobs.findById(meetingId).map(b -> inflate(b.getData())).orElse("");
+    }
+
+    /** Transcripts of several meetings at once (search rebuilds and similar bulk readers). */
+    public Map<Long, String> loadAll(Collection<Long> meetingIds) {
+        Map<Long, String> out = new HashMap<>();
+        for (TranscriptBlob b : blobs.findAllById(meetingIds)) out.put(b.getMeetingId(), inflate(b.getData()));
+        return out;
+    }
+
+    public record Transcript(Long meetingId, String text) {}
+
+    /** Every transcript in meeting order, read through a cursor; close the stream, and use it inside a transaction. */
+    public Stream<Transcript> streamAll() {
+        return jdbc.queryForStream(con -> {
+            PreparedStatement ps = con.prepareStatement("SELECT meeting_id, data FROM transcript_blob ORDER BY meeting_id");
+            ps.setFetchSize(STREAM_FETCH_SIZE);
+            return ps;
+        }, (rs, i) -> new Transcript(rs.getLong(1), inflate(rs.getBytes(2))));
+    }
+
+    public boolean exists(Long meetingId) {
+        return blobs.existsById(meetingId);
+    }
+
+    /** Streams the UTF-8 transcript to out, inflating as it goes. Returns false when there is none. */
+    public boolean write(Long meetingId, OutputStream out) {
+        Boolean found = jdbc.query("SELECT data FROM transcript_blob WHERE meeting_id = ?", rs -> {
+            if (!rs.next()) return false;
+            try (InputStream in = new InflaterInputStream(rs.getBinaryStream(1))) {
+                in.transferTo(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        }, meetingId);
+        return Boolean.TRUE.equals(found);
+    }
+
+    private static TranscriptBlob blob(Long meetingId, String transcript) {
+        String text = transcript == null ? "" : transcript;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(Math.max(64, text.length() / 3));
+        try (Writer w = new OutputStreamWriter(new DeflaterOutputStream(bytes, new Deflater(Deflater.DEFAULT_COMPRESSION)),
+                StandardCharsets.UTF_8)) {
+            w.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // in-memory streams do not fail
+        }
+        TranscriptBlob b = new TranscriptBlob();
+        b.setMeetingId(meetingId);
+        b.setLength(text.length());
+        b.setData(bytes.toByteArray());
+        return b;
+    }
+
+    private static String inflate(byte[] data) {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(data))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Migration for databases where transcripts were a CLOB column on meeting: compress them into
+     * transcript_blob in small transactions, then drop the column. Runs before the app takes requests.
+     */
+    @PostConstruct
+    void migrateLegacyColumn() {
+        Integer legacy = jdbc.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS " +
+                "WHERE TABLE_NAME = 'MEETING' AND COLUMN_NAME = 'TRANSCRIPT'", Integer.class);
+        if (legacy == null || legacy == 0) return;
+        long moved = 0;
+        long after = 0;
+        while (true) {
+            long from = after;
+            List<Long> ids = tx.execute(s -> {
+                List<Map<String, Object>> rows = jdbc.queryForList(
+                        "SELECT id, transcript FROM meeting WHERE id > ? ORDER BY id LIMIT ?", from, MIGRATION_BATCH);
+                List<TranscriptBlob> batch = new ArrayList<>();
+                for (Map<String, Object> row : rows) {
+                    Long id = ((Number) row.get("ID")).longValue();
+                    if (!blobs.existsById(id)) batch.add(blob(id, clobText(row.get("TRANSCRIPT"))));
+                }
+                blobs.saveAll(batch);
+                return rows.stream().map(r -> ((Number) r.get("ID")).longValue()).toList();
+            });
+            if (ids == null || ids.isEmpty()) break;
+            moved += ids.size();
+            after = ids.get(ids.size() - 1);
+        }
+        jdbc.execute("ALTER TABLE meeting DROP COLUMN transcript");
+        log.info("Moved {} transcripts to compressed storage and dropped meeting.transcript", moved);
+    }
+
+    private static String clobText(Object value) {
+        try {
+            if (value instanceof java.sql.Clob c) return c.getSubString(1, (int) c.length());
+        } catch (java.sql.SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return value == null ? "" : value.toString();
+    }
+}
@@ -0,0 +1,220 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Resumable chunked uploads spooled to disk. Chunks are appended to a spool file through a
+ * {@link FileChannel} via a reused direct buffer, so a chunk never sits on the heap as a whole.
+ * Each chunk carries a CRC32C; a mismatch or a dropped connection truncates the file back to where
+ * the chunk started, so the file length is always the offset to resume from, even after a restart.
+ */
+@Service
+public class UploadService {
+
+    private static final Logger log = LoggerFactory.getLogger(UploadService.class);
+    private static final int BUFFER_BYTES = 64 * 1024;
+    private static final ThreadLocal<ByteBuffer> BUFFER = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(BUFFER_BYTES));
+
+    private final WhisperService whisper;
+    private final Path spoolDir;
+    private final long maxChunkBytes;
+    private final Duration ttl;
+    private final Map<String, Upload> uploads = new ConcurrentHashMap<>();
+
+    public UploadService(WhisperService whisper,
+                         @Value("${upload.spool-dir:data/uploads}") String spoolDir,
+                         @Value("${upload.max-chunk-bytes:16777216}") long maxChunkBytes,
+                         @Value("${upload.ttl:PT24H}") Duration ttl) {
+        this.whisper = whisper;
+        this.spoolDir = Path.of(spoolDir);
+        this.maxChunkBytes = maxChunkBytes;
+        this.ttl = ttl;
+    }
+
+    /** One upload in progress; its data file length is the committed offset. */
+    public record Upload(String id, String fileName, long expectedSize, Path file) {}
+
+    /** The chunk was not appended; the client should continue from {@code offset}. */
+    public static class ChunkRejected extends RuntimeException {
+        private final long offset;
+        private final boolean conflict;
+
+        ChunkRejected(String message, long offset, boolean conflict) {
+            super(message);
+            this.offset = offset;
+            this.conflict = conflict;
+        }
+
+        public long offset() { return offset; }
+        /** True when the chunk was sent for the wrong offset, false when its content was bad. */
+        public boolean conflict() { return conflict; }
+    }
+
+    /**
+     * Uploads survive restarts: their spool files and metadata are picked up again. Leftovers of a crash are
+     * swept: files of transcriptions that were running (jobs do not survive a restart), data without metadata
+     * and metadata without data.
+     */
+    @PostConstruct
+    void recover() throws IOException {
+        if (!Files.isDirectory(spoolDir)) return;
+        List<Path> files;
+        try (Stream<Path> list = Files.list(spoolDir)) {
+            files = list.toList();
+        }
+        int swept = 0;
+        for (Path f : files) {
+            String name = f.getFileName().toString();
+            boolean orphan = name.endsWith(".job")
+                    || name.endsWith(".part") && !Files.exists(meta(name.substring(0, name.length() - ".part".length())));
+            if (orphan && Files.deleteIfExists(f)) swept++;
+        }
+        for (Path meta : files.stream().filter(p -> p.toString().endsWith(".meta")).toList()) {
+            String id = meta.getFileName().toString().replace(".meta", "");
+            Path data = spoolDir.resolve(id + ".part");
+            if (!Files.exists(data)) {
+                if (Files.deleteIfExists(meta)) swept++;
+                continue;
+            }
+            Properties p = new Properties();
+            try (Reader r = Files.newBufferedReader(meta)) {
+                p.load(r);
+            }
+            uploads.put(id, new Upload(id, p.getProperty("fileName", ""),
+                    Long.parseLong(p.getProperty("expectedSize", "-1")), data));
+        }
+        if (!uploads.isEmpty()) log.info("Recovered {} unfinished uploads from {}", uploads.size(), spoolDir);
+        if (swept > 0) log.info("Removed {} leftover spool files from {}", swept, spoolDir);
+    }
+
+    public Upload create(String fileName, long expectedSize) throws IOException {
+        evictStale();
+        Files.createDirectories(spoolDir);
+        String id = UUID.randomUUID().toString();
+        Upload u = new Upload(id, fileName == null ? "" : fileName, expectedSize, spoolDir.resolve(id + ".part"));
+        Files.createFile(u.file());
+        Properties p = new Properties();
+        p.setProperty("fileName", u.fileName());
+        p.setProperty("expectedSize", Long.toString(expectedSize));
+        p.setProperty("createdAt", Instant.now().toString());
+        try (Writer w = Files.newBufferedWriter(meta(id))) {
+            p.store(w, null);
+        }
+        uploads.put(id, u);
+        return u;
+    }
+
+    public Optional<Upload> find(String id) {
+        return Optional.ofNullable(uploads.get(id));
+    }
+
+    public long offset(Upload u) throws IOException {
+        return Files.size(u.file());
+    }
+
+    /**
+     * Appends one chunk at {@code offset} and returns the new offset. The chunk is kept only if it
+     * is complete and its CRC32C (8 hex digits) matches; otherwise the file is cut back.
+     */
+    public long append(Upload u, long offset, String crc32c, ReadableByteChannel body) throws IOException {
+        synchronized (u) {
+            try (FileChannel ch = FileChannel.open(u.file(), StandardOpenOption.WRITE)) {
+                long start = ch.size();
+                if (offset != start) throw new ChunkRejected("Expected offset " + start, start, true);
+                CRC32C crc = new CRC32C();
+                ByteBuffer buf = BUFFER.get();
+                long pos = start;
+                try {
+                    while (true) {
+                        buf.clear();
+                        if (body.read(buf) < 0) break;
+                        buf.flip();
+                        if (pos - start + buf.remaining() > maxChunkBytes) {
+                            throw new ChunkRejected("Chunk larger than " + maxChunkBytes + " bytes", start, false);
+                        }
+                        int mark = buf.position();
+                        crc.update(buf);
+                        buf.position(mark);
+                        while (buf.hasRemaining()) pos += ch.write(buf, pos);
+                    }
+                    if (u.expectedSize() >= 0 && pos > u.expectedSize()) {
+                        throw new ChunkRejected("Upload exceeds its declared size of " + u.expectedSize(), start, false);
+                    }
+                    if (!String.format("%08x", crc.getValue()).equalsIgnoreCase(crc32c == null ? "" : crc32c.trim())) {
+                        throw new ChunkRejected("CRC32C mismatch", start, false);
+                    }
+                    ch.force(false);
+                    return pos;
+                } catch (IOException | RuntimeException e) {
+                    ch.truncate(start); // keep only whole, verified chunks
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Hands the assembled file to transcription, which deletes it once done. The file is moved out of the
+     * upload first and the metadata removed last, so a crash in between leaves files {@link #recover} sweeps.
+     */
+    public WhisperService.Job complete(Upload u) throws IOException {
+        synchronized (u) {
+            long size = offset(u);
+            if (u.expectedSize() >= 0 && size != u.expectedSize()) {
+                throw new ChunkRejected("Upload incomplete: " + size + " of " + u.expectedSize() + " bytes", size, true);
+            }
+            Path handedOff = Files.move(u.file(), spoolDir.resolve(u.id() + ".job"), StandardCopyOption.ATOMIC_MOVE);
+            WhisperService.Job job;
+            try {
+                job = whisper.start(handedOff, true);
+            } catch (RuntimeException e) {
+                Files.move(handedOff, u.file(), StandardCopyOption.ATOMIC_MOVE); // still resumable
+                throw e;
+            }
+            uploads.remove(u.id());
+            Files.deleteIfExists(meta(u.id()));
+            return job;
+        }
+    }
+
+    public boolean abort(String id) throws IOException {
+        Upload u = uploads.remove(id);
+        if (u == null) return false;
+        synchronized (u) {
+            Files.deleteIfExists(u.file());
+            Files.deleteIfExists(meta(id));
+        }
+        return true;
+    }
+
+    private Path meta(String id) {
+        return spoolDir.resolve(id + ".meta");
+    }
+
+    private void evictStale() throws IOException {
+        Instant cutoff = Instant.now().minus(ttl);
+        for (Upload u : List.copyOf(uploads.values())) {
+            if (!Files.exists(u.file()) || Files.getLastModifiedTime(u.file()).toInstant().isBefore(cutoff)) {
+                abort(u.id());
+            }
+        }
+    }
+}
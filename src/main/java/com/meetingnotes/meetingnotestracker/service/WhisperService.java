@@ -1,14 +1,288 @@
 package com.meetingnotes.meetingnotestracker.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+import org.vosk.LibVosk;
+import org.vosk.LogLevel;
+import org.vosk.Model;
+import org.vosk.Recognizer;
 
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.UnsupportedAudioFileException;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Offline speech-to-text with Vosk (the class keeps its old name). The model is loaded once at
+ * startup and shared; each job gets its own recognizer on a bounded worker pool. Uploads are
+ * decoded with Java Sound into 16-bit mono PCM and fed to the recognizer chunk by chunk, so memory
+ * per job is one chunk buffer plus the text, whatever the length of the recording.
+ */
 @Service
 public class WhisperService {
-    public String transcribeAudio(MultipartFile file) {
-        // Free mode: audio transcription disabled.
-        // Use the web UI at / to capture speech -> text in the browser,
-        // then click “Analyze” to get summary/decisions/action items.
-        throw new UnsupportedOperationException("Audio transcription disabled in free mode. Use / (web UI) or POST /analyze.");
+
+    private static final Logger log = LoggerFactory.getLogger(WhisperService.class);
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+    private final ObjectMapper mapper;
+    private final Path modelPath;
+    private final int chunkBytes;
+    private final Duration jobTtl;
+    private final ThreadPoolExecutor workers;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private volatile Model model;
+    private volatile String modelError = "Speech model not loaded yet";
+
+    // Throughput: seconds of audio transcribed vs. worker CPU seconds spent on it
+    private final LongAdder audioMillis = new LongAdder();
+    private final LongAdder cpuMillis = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+
+    public WhisperService(ObjectMapper mapper,
+                          @Value("${transcription.model-path:models/vosk-model-small-en-us-0.15}") String modelPath,
+                          @Value("${transcription.workers:0}") int workerCount,
+                          @Value("${transcription.queue-capacity:16}") int queueCapacity,
+                          @Value("${transcription.chunk-bytes:8192}") int chunkBytes,
+                          @Value("${transcription.job-ttl:PT1H}") Duration jobTtl) {
+        this.mapper = mapper;
+        this.modelPath = Path.of(modelPath);
+        this.chunkBytes = Math.max(1024, chunkBytes & ~1); // whole 16-bit samples
+        this.jobTtl = jobTtl;
+        int threads = workerCount > 0 ? workerCount : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger n = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), r -> {
+                    Thread t = new Thread(r, "transcribe-" + n.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PostConstruct
+    void loadModel() {
+        // A Vosk model needs at least the acoustic model and its config; the native library is only
+        // touched once those are present, so a missing model costs nothing at startup
+        for (String required : List.of("am/final.mdl", "conf/model.conf")) {
+            if (!Files.isRegularFile(modelPath.resolve(required))) {
+                modelError = "Speech model at " + modelPath + " is incomplete (missing " + required
+                        + "); download a Vosk model and set transcription.model-path";
+                log.warn(modelError);
+                return;
+            }
+        }
+        try {
+            LibVosk.setLogLevel(LogLevel.WARNINGS);
+            long started = System.nanoTime();
+            model = new Model(modelPath.toString());
+            modelError = null;
+            log.info("Loaded speech model {} in {} ms", modelPath, (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException | LinkageError e) {
+            modelError = "Could not load speech model " + modelPath + ": " + e.getMessage();
+            log.warn(modelError);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+        try {
+            workers.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (model != null) model.close();
+    }
+
+    /** Progress and result of one transcription; text grows segment by segment while it runs. */
+    public static final class Job {
+        private final String id;
+        private volatile Status status = Status.QUEUED;
+        private final StringBuilder text = new StringBuilder();
+        private volatile String partial = "";
+        private volatile double audioSeconds;
+        private volatile double cpuSeconds;
+        private volatile String error;
+        private volatile long finishedAt; // nanoTime, 0 while pending
+        private Future<?> future;
+
+        Job(String id) { this.id = id; }
+
+        public String getId() { return id; }
+        public Status getStatus() { return status; }
+        public synchronized String getText() { return text.toString(); }
+        public String getPartial() { return partial; }
+        public double getAudioSeconds() { return audioSeconds; }
+        public double getCpuSeconds() { return cpuSeconds; }
+        public String getError() { return error; }
+
+        synchronized void appendSegment(String segment) {
+            if (segment.isBlank()) return;
+            if (!text.isEmpty()) text.append(' ');
+            text.append(segment.trim());
+        }
+
+        void finish(Status s, String error) {
+            this.error = error;
+            this.partial = "";
+            this.finishedAt = System.nanoTime();
+            this.status = s;
+        }
+    }
+
+    @FunctionalInterface
+    private interface AudioSource {
+        InputStream open() throws IOException;
+    }
+
+    /** Synchronous transcription for POST /upload-audio; still runs on (and waits for) the bounded pool. */
+    public String transcribeAudio(MultipartFile file) throws Exception {
+        Job job = submit(file::getInputStream, null);
+        try {
+            job.future.get();
+        } catch (InterruptedException e) {
+            job.future.cancel(true);
+            throw e;
+        }
+        if (job.status == Status.FAILED) throw new IllegalArgumentException(job.error);
+        return job.getText();
+    }
+
+    /**
+     * Starts a background transcription and returns its job; poll {@link #job} for partial text.
+     * The upload is moved to a temp file first because the request's copy is gone once it returns.
+     */
+    public Job start(MultipartFile file) throws IOException {
+        requireModel();
+        Path tmp = Files.createTempFile("transcribe-", ".audio");
+        try {
+            file.transferTo(tmp);
+            return start(tmp, true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    /** Background transcription of an audio file on disk, read as a stream; optionally deleted afterwards. */
+    public Job start(Path audio, boolean deleteWhenDone) {
+        return submit(() -> Files.newInputStream(audio), deleteWhenDone ? audio : null);
+    }
+
+    public Optional<Job> job(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    public Map<String, Object> stats() {
+        double audioMin = audioMillis.sum() / 60_000.0, cpuMin = cpuMillis.sum() / 60_000.0;
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("modelLoaded", model != null);
+        if (modelError != null) out.put("modelError", modelError);
+        out.put("workers", workers.getMaximumPoolSize());
+        out.put("running", workers.getActiveCount());
+        out.put("queued", workers.getQueue().size());
+        out.put("completed", completed.sum());
+        out.put("audioMinutes", audioMin);
+        out.put("cpuMinutes", cpuMin);
+        out.put("audioMinutesPerCpuMinute", cpuMin == 0 ? 0.0 : audioMin / cpuMin);
+        return out;
+    }
+
+    private void requireModel() {
+        if (model == null) throw new IllegalStateException(modelError);
+    }
+
+    private Job submit(AudioSource source, Path cleanup) {
+        requireModel();
+        evictFinished();
+        Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+        try {
+            job.future = workers.submit(() -> run(job, source, cleanup));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw e;
+        }
+        return job;
+    }
+
+    private void run(Job job, AudioSource source, Path cleanup) {
+        job.status = Status.RUNNING;
+        long cpuStart = THREADS.getCurrentThreadCpuTime();
+        long audioBytes = 0;
+        float bytesPerSecond = 1;
+        try (AudioInputStream pcm = toPcm(AudioSystem.getAudioInputStream(new BufferedInputStream(source.open())));
+             Recognizer recognizer = new Recognizer(model, pcm.getFormat().getSampleRate())) {
+            bytesPerSecond = pcm.getFormat().getSampleRate() * 2;
+            byte[] chunk = new byte[chunkBytes];
+            int n;
+            while ((n = pcm.readNBytes(chunk, 0, chunk.length)) > 0) {
+                if (Thread.currentThread().isInterrupted()) throw new InterruptedIOException("Transcription cancelled");
+                audioBytes += n;
+                if (recognizer.acceptWaveForm(chunk, n)) {
+                    job.appendSegment(field(recognizer.getResult(), "text"));
+                    job.partial = "";
+                } else {
+                    job.partial = field(recognizer.getPartialResult(), "partial");
+                }
+                job.audioSeconds = audioBytes / bytesPerSecond;
+            }
+            job.appendSegment(field(recognizer.getFinalResult(), "text"));
+            job.finish(Status.DONE, null);
+        } catch (UnsupportedAudioFileException e) {
+            job.finish(Status.FAILED, "Unsupported audio format; upload WAV, AIFF or AU");
+        } catch (IOException | RuntimeException e) {
+            job.finish(Status.FAILED, String.valueOf(e.getMessage()));
+        } finally {
+            long cpu = THREADS.getCurrentThreadCpuTime() - cpuStart;
+            job.cpuSeconds = cpu / 1e9;
+            audioMillis.add((long) (audioBytes * 1000 / bytesPerSecond));
+            cpuMillis.add(cpu / 1_000_000);
+            completed.increment();
+            if (cleanup != null) {
+                try {
+                    Files.deleteIfExists(cleanup);
+                } catch (IOException e) {
+                    log.warn("Could not delete {}: {}", cleanup, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** 16 kHz mono signed 16-bit little-endian if Java Sound can convert to it, else mono 16-bit at the source rate. */
+    private static AudioInputStream toPcm(AudioInputStream in) throws UnsupportedAudioFileException {
+        AudioFormat src = in.getFormat();
+        for (float rate : new float[]{16000f, src.getSampleRate()}) {
+            AudioFormat target = new AudioFormat(rate, 16, 1, true, false);
+            if (src.matches(target)) return in;
+            if (AudioSystem.isConversionSupported(target, src)) return AudioSystem.getAudioInputStream(target, in);
+        }
+        throw new UnsupportedAudioFileException("Cannot convert " + src + " to 16-bit mono PCM");
+    }
+
+    private String field(String json, String name) throws IOException {
+        return mapper.readTree(json).path(name).asText("");
+    }
+
+    private void evictFinished() {
+        long cutoff = System.nanoTime() - jobTtl.toNanos();
+        jobs.values().removeIf(j -> j.finishedAt != 0 && j.finishedAt - cutoff < 0);
     }
 }
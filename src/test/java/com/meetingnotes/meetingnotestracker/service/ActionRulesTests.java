@@ -0,0 +1,92 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionRulesTests {
+
+    // Words the rules key on, near misses, and characters where regex semantics get subtle
+    private static final String[] WORDS = {
+            "assign", "Assigning", "assigned", "reassign", "assignment", "to", "TO", "tomorrow", "Today", "today",
+            "Bob", "Alice", "priya", "Nelson", "Omar", "x", "I", "i", "We", "we", "Please", "ask", "Ask", "asked",
+            "Need", "needs", "want", "Wants", "request", "requested", "require", "Required", "will", "Should", "must",
+            "willing", "by", "before", "on", "upon", "Aug", "Friday", "15", "1", "123", "12/3", "1/234", "7/08",
+            "EOW", "eod", "next", "week", "it", "It", "this", "task", "work", "the", "pick", "up", "take", "handle",
+            "api", "network", "backend", "project", "migration", "our", "have", "some", "and", "But", "so", "then",
+            "also", "Monday", "a_b", "x1", "3Bob", "Bob3", "Sprint3", "-", ",", ";", ".", "!", "?", "'", "..."};
+    private static final String[] GAPS = {" ", " ", " ", " ", "  ", "   ", "\t", "\n", "\r\n", "\u2028", "\u000B", "", ""};
+
+    private final AnalysisService service = new AnalysisService();
+    private final LegacyActionRules legacy = new LegacyActionRules();
+
+    @Test
+    void matchesTheRegexRulesOnTheSampleMeeting() {
+        assertSameAsLegacy(List.of(
+                "We have some backend development work this sprint.",
+                "I want Nelson to pick it up by Friday.",
+                "We are assigning the migration plan to Priya on Aug 15.",
+                "Okay, Omar will review this task.",
+                "And Chen should update the dashboard by EOD?",
+                "Please ask Bob to handle it before 7/08, and then take it up with Alice.",
+                "We need Alice to fix the api and I want Alice to ship it tomorrow",
+                "assign   to Bob the report"));
+    }
+
+    @Test
+    void matchesTheRegexRulesOnRandomSentences() {
+        Random random = new Random(42);
+        for (int run = 0; run < 3_000; run++) {
+            List<String> sentences = new ArrayList<>();
+            for (int i = 1 + random.nextInt(4); i > 0; i--) sentences.add(sentence(random));
+            assertSameAsLegacy(sentences);
+        }
+    }
+
+    @Test
+    void runsInLinearTimeOnAdversarialInput() {
+        // Many cues and names but no "to <verb>": the lazy regex rescans the rest of the sentence per cue
+        String sentence = "I want Bob and we need Alice ".repeat(20_000) + "assign it ".repeat(20_000);
+        List<Map<String, String>> items = new ArrayList<>();
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> service.extractActions(sentence, service.scan(sentence), "", items));
+        assertTrue(items.isEmpty());
+    }
+
+    @Test
+    void resolvesPronounsWithContextTakenLiterally() {
+        assertEquals("pick up the $5 budget", ActionRules.resolvePronouns("pick it up", "the $5 budget"));
+        assertEquals("handle C:\\temp", ActionRules.resolvePronouns("handle it", "C:\\temp"));
+    }
+
+    private void assertSameAsLegacy(List<String> sentences) {
+        String ctx = "", legacyCtx = "";
+        List<Map<String, String>> items = new ArrayList<>(), expected = new ArrayList<>();
+        for (String s : sentences) {
+            int[] hits = service.scan(s);
+            ctx = service.extractActions(s, hits, ctx, items);
+            legacyCtx = legacy.extractActions(s, hits, legacyCtx, expected);
+            assertEquals(legacyCtx, ctx, () -> "context for " + show(sentences));
+            assertEquals(expected, items, () -> "items for " + show(sentences));
+        }
+    }
+
+    private static String sentence(Random random) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1 + random.nextInt(25); i > 0; i--) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(GAPS[random.nextInt(GAPS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String show(List<String> sentences) {
+        return sentences.toString().replace("\n", "\\n").replace("\r", "\\r").replace("\u2028", "\\u2028")
+                .replace("\u000B", "\\v").replace("\t", "\\t");
+    }
+}
@@ -0,0 +1,91 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisAdmissionTests {
+
+    private static AnalysisAdmission admission(int threads, int queue, double rate, double burst) {
+        return new AnalysisAdmission(threads, 1, queue, Duration.ofSeconds(5), 1.5, rate, burst, 1000, 100, "");
+    }
+
+    @Test
+    void emptyTokenBucketIs429WithRetryAfter() throws Exception {
+        AnalysisAdmission a = admission(2, 4, 0.5, 2);
+        assertEquals("x", a.submit("alice", 0, () -> "x").get(5, TimeUnit.SECONDS));
+        a.submit("alice", 0, () -> "x").get(5, TimeUnit.SECONDS);
+
+        AnalysisAdmission.Rejected r = assertThrows(AnalysisAdmission.Rejected.class, () -> a.submit("alice", 0, () -> "x"));
+        assertEquals(429, r.getStatus());
+        assertTrue(r.getRetryAfterSeconds() >= 1 && r.getRetryAfterSeconds() <= 2); // one token at half a token per second
+        a.submit("bob", 0, () -> "x").get(5, TimeUnit.SECONDS); // other clients are unaffected
+        // long transcripts cost more, but never more than a full bucket
+        assertEquals(429, assertThrows(AnalysisAdmission.Rejected.class,
+                () -> a.submit("bob", 5_000, () -> "x")).getStatus());
+        a.submit("carol", 1_000_000, () -> "x").get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void clientsBeyondTheCapEvictTheLeastRecentlySeen() throws Exception {
+        AnalysisAdmission a = new AnalysisAdmission(1, 1, 4, Duration.ofSeconds(5), 1.5, 0.01, 1, 1000, 2, "");
+        a.submit("alice", 0, () -> "x").get(5, TimeUnit.SECONDS);
+        a.submit("bob", 0, () -> "x").get(5, TimeUnit.SECONDS);
+        assertEquals(429, assertThrows(AnalysisAdmission.Rejected.class, () -> a.precheck("alice")).getStatus());
+
+        a.submit("carol", 0, () -> "x").get(5, TimeUnit.SECONDS); // bob was seen least recently
+        assertEquals(2, a.stats().get("clients"));
+        assertEquals(1L, a.stats().get("clientsEvicted"));
+        assertEquals(429, assertThrows(AnalysisAdmission.Rejected.class, () -> a.submit("alice", 0, () -> "x")).getStatus());
+        a.submit("bob", 0, () -> "x").get(5, TimeUnit.SECONDS); // forgotten, so a full bucket again
+    }
+
+    @Test
+    void fullQueueIs503AndIsNotCharged() throws Exception {
+        AnalysisAdmission a = admission(1, 1, 100, 3);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = a.submit("alice", 0, () -> { release.await(); return "done"; });
+        CompletableFuture<String> queued = a.submit("alice", 0, () -> "queued");
+
+        AnalysisAdmission.Rejected r = assertThrows(AnalysisAdmission.Rejected.class, () -> a.submit("alice", 0, () -> "x"));
+        assertEquals(503, r.getStatus());
+        assertTrue(r.getRetryAfterSeconds() >= 1);
+        release.countDown();
+        assertEquals("done", running.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        a.submit("alice", 0, () -> "x").get(5, TimeUnit.SECONDS); // the refused request's token came back
+        assertEquals(1L, a.stats().get("shedOnArrival"));
+    }
+
+    @Test
+    void failuresOfTheWorkReachTheCaller() {
+        AnalysisAdmission a = admission(1, 1, 0, 1);
+        CompletableFuture<String> f = a.submit("alice", 0, () -> { throw new IllegalArgumentException("bad"); });
+        ExecutionException e = assertThrows(ExecutionException.class, () -> f.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRisesAndRegrowsWhenSaturated() {
+        AdaptiveLimit limit = new AdaptiveLimit(8, 1, 8, 1.5);
+        for (int i = 0; i < 200; i++) limit.onSample(1_000_000, 1024, 8);
+        assertEquals(8, limit.limit());
+
+        for (int i = 0; i < 40; i++) limit.onSample(6_000_000, 1024, 8); // six times slower
+        assertTrue(limit.limit() < 4, "limit " + limit.limit());
+
+        int shrunk = limit.limit();
+        for (int i = 0; i < 400; i++) limit.onSample(1_000_000, 1024, limit.limit());
+        assertTrue(limit.limit() > shrunk);
+        // latency per KB, so one large transcript is not mistaken for overload
+        int before = limit.limit();
+        limit.onSample(50_000_000, 50 * 1024, before);
+        assertEquals(before, limit.limit());
+    }
+}
@@ -0,0 +1,62 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AnalysisCacheTests {
+
+    private static final String TRANSCRIPT = "We decided to ship on Friday. Priya will update the API doc by Monday.";
+
+    @Test
+    void repeatedTranscriptIsAnalyzedOnce() {
+        AnalysisCache cache = new AnalysisCache(new ObjectMapper(), 1 << 20, "");
+        AnalysisService service = new AnalysisService(List.of(), List.of(), List.of(), -1, 1, cache, AnalysisMetrics.NOOP);
+        Map<String, Object> expected = new AnalysisService().analyze(TRANSCRIPT);
+
+        assertEquals(expected, service.analyze(TRANSCRIPT));
+        assertEquals(expected, service.analyze("  " + TRANSCRIPT + "\n")); // same after trimming
+        assertThrows(UnsupportedOperationException.class, () -> service.analyze(TRANSCRIPT).put("x", "y"));
+        assertEquals(1L, cache.stats().get("misses"));
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedByWeight() {
+        AnalysisCache cache = new AnalysisCache(new ObjectMapper(), 8 * 1024, "");
+        AtomicInteger computed = new AtomicInteger();
+        String padding = "x".repeat(200); // ~600 bytes per entry, so 20 entries overflow the budget
+        for (int i = 0; i < 20; i++) cache.get("t" + i, t -> { computed.incrementAndGet(); return Map.of("summary", t + padding); });
+        cache.get("t19", t -> { computed.incrementAndGet(); return Map.of(); });
+        cache.get("t0", t -> { computed.incrementAndGet(); return Map.of(); }); // eldest, already evicted
+
+        Map<String, Object> stats = cache.stats();
+        assertEquals(21, computed.get());
+        assertEquals(1L, stats.get("hits"));
+        assertTrue((long) stats.get("evictions") > 0);
+        assertTrue((long) stats.get("weight") <= 8 * 1024);
+    }
+
+    @Test
+    void survivesRestartOnlyWithSameLexicon(@TempDir Path dir) {
+        String file = dir.resolve("cache.json").toString();
+        AnalysisCache first = new AnalysisCache(new ObjectMapper(), 1 << 20, file);
+        first.open("lexicon-a");
+        Map<String, Object> result = first.get(TRANSCRIPT, new AnalysisService()::analyze);
+        first.save();
+
+        AnalysisCache same = new AnalysisCache(new ObjectMapper(), 1 << 20, file);
+        same.open("lexicon-a");
+        assertEquals(result, same.get(TRANSCRIPT, t -> fail("should be cached")));
+
+        AnalysisCache changed = new AnalysisCache(new ObjectMapper(), 1 << 20, file);
+        changed.open("lexicon-b");
+        assertEquals(0, changed.stats().get("entries"));
+    }
+}
@@ -0,0 +1,111 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AnalysisServiceTests {
+
+    private static final String TRANSCRIPT = """
+            Hello everyone, thanks for joining. We have some backend development work this sprint. \
+            I want Nelson to pick it up by Friday. We decided to finalize the API spec before EOW! \
+            We are assigning the migration plan to Priya on Aug 15. Okay, Omar will review this task. \
+            The goal is to agree on scope and the timeline risk, And Chen should update the dashboard by EOD? \
+            So that is mostly it""";
+
+    private final AnalysisService service = new AnalysisService();
+
+    @Test
+    void extractsActionsWithPronounContext() {
+        List<Map<String, String>> items = (List<Map<String, String>>) service.analyze(TRANSCRIPT).get("actionItems");
+        assertEquals(Map.of("owner", "Nelson", "task", "pick up backend development work this sprint by Friday", "due", ""),
+                items.get(0));
+        assertEquals("Priya", items.get(1).get("owner"));
+        assertEquals("on Aug 15", items.get(1).get("due"));
+    }
+
+    @Test
+    void liveAnalysisMatchesOneShotAnalysis() {
+        Map<String, Object> expected = service.analyze(TRANSCRIPT);
+        Random random = new Random(1);
+        for (int round = 0; round < 50; round++) {
+            LiveAnalysis live = service.newLiveAnalysis(Integer.MAX_VALUE); // cut at punctuation only
+            int from = 0;
+            while (from < TRANSCRIPT.length()) {
+                int to = Math.min(TRANSCRIPT.length(), from + 1 + random.nextInt(40));
+                while (to < TRANSCRIPT.length() && TRANSCRIPT.charAt(to) != ' ') to++; // cut at word boundaries
+                live.append(TRANSCRIPT.substring(from, to));
+                from = to;
+            }
+            live.finish();
+            assertEquals(expected, live.snapshot());
+        }
+    }
+
+    @Test
+    void unpunctuatedLiveFragmentsAreAnalyzedBeforeFinish() {
+        // what speech recognition delivers: one final result per utterance, no punctuation
+        LiveAnalysis live = service.newLiveAnalysis(200);
+        Map<String, Object> delta = live.append("we decided to ship the beta next week", true);
+        assertEquals(1L, delta.get("sentences"));
+        assertEquals(List.of("we decided to ship the beta next week"), delta.get("decisions"));
+        delta = live.append("Omar will update the release notes by friday", true);
+        assertEquals(2L, delta.get("sentences"));
+        assertEquals("Omar", ((List<Map<String, String>>) delta.get("actionItems")).get(0).get("owner"));
+
+        // without end-of-utterance marks a long unpunctuated tail is still cut, at a space
+        long before = (long) delta.get("sentences");
+        for (int i = 0; i < 30; i++) delta = live.append("and then the team talked about the roadmap");
+        assertTrue((long) delta.get("sentences") > before);
+    }
+
+    @Test
+    void parallelAnalysisMatchesSequential() {
+        // Repeated meetings so pronoun context has to cross chunk boundaries
+        String big = (TRANSCRIPT + " ").repeat(40) + "Bob will handle it.";
+        AnalysisService sequential = new AnalysisService(List.of(), List.of(), List.of(), -1, 1);
+        Map<String, Object> expected = sequential.analyze(big);
+        for (int chunk : new int[]{1, 2, 3, 7, 64}) {
+            AnalysisService parallel = new AnalysisService(List.of(), List.of(), List.of(), 0, chunk);
+            assertEquals(expected, parallel.analyze(big), "chunk size " + chunk);
+        }
+    }
+
+    @Test
+    void summaryPrefersTermsThatAreRareAcrossMeetings() {
+        CorpusStats corpus = new CorpusStats();
+        corpus.reset(Map.of(), 0);
+        // Every stored meeting talks about the weekly status update; one other topic is rare
+        for (int i = 0; i < 200; i++) corpus.added(Set.of("weekly", "status", "update", "team", "progress"));
+        corpus.added(Set.of("kafka", "partition", "rebalancing"));
+        AnalysisService scored = new AnalysisService(List.of(), List.of(), List.of(), -1, 1, null, AnalysisMetrics.NOOP, corpus);
+
+        String transcript = "The team gave the weekly status update on progress. Kafka partition rebalancing broke ingestion. "
+                + "Thanks all.";
+        assertEquals("Kafka partition rebalancing broke ingestion.", scored.pickSummary(
+                scored.splitSentences(transcript), scored.scanLexicon(scored.splitSentences(transcript)), 1).get(0));
+        assertEquals(201L, corpus.stats().get("documents"));
+    }
+
+    @Test
+    void boundedHeapTopKMatchesAStableSort() {
+        Random random = new Random(3);
+        for (int round = 0; round < 200; round++) {
+            double[] scores = random.doubles(random.nextInt(60), 0, 5).map(Math::floor).toArray(); // plenty of ties
+            int k = random.nextInt(6);
+            int[] expected = IntStream.range(0, scores.length).boxed()
+                    .sorted(Comparator.comparingDouble((Integer i) -> -scores[i]))
+                    .limit(k).mapToInt(Integer::intValue).toArray();
+            assertArrayEquals(expected, AnalysisService.topIndices(scores, IntStream.range(0, scores.length), k));
+        }
+    }
+}
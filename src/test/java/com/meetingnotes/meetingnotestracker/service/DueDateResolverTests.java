@@ -0,0 +1,51 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class DueDateResolverTests {
+
+    // Wednesday 2025-08-13, 23:30 UTC
+    private static final Instant MEETING = Instant.parse("2025-08-13T23:30:00Z");
+
+    private final DueDateResolver resolver = new DueDateResolver();
+
+    @Test
+    void resolvesRelativeHints() {
+        assertEquals(LocalDate.of(2025, 8, 13), resolver.resolve("by EOD", MEETING));
+        assertEquals(LocalDate.of(2025, 8, 14), resolver.resolve("by tomorrow", MEETING));
+        assertEquals(LocalDate.of(2025, 8, 15), resolver.resolve("before EOW", MEETING));
+        assertEquals(LocalDate.of(2025, 8, 18), resolver.resolve("by next  week", MEETING));
+        assertEquals(LocalDate.of(2025, 8, 15), resolver.resolve("by Friday", MEETING));
+        assertEquals(LocalDate.of(2025, 8, 20), resolver.resolve("on Wednesday", MEETING));
+    }
+
+    @Test
+    void weekdaysNamingTheMeetingDayMeanTheFollowingWeek() {
+        Instant friday = Instant.parse("2025-08-15T10:00:00Z");
+        assertEquals(LocalDate.of(2025, 8, 22), resolver.resolve("by Friday", friday));
+        assertEquals(LocalDate.of(2025, 8, 22), resolver.resolve("before EOW", friday));
+        assertEquals(LocalDate.of(2025, 8, 15), resolver.resolve("by EOD", friday));
+    }
+
+    @Test
+    void resolvesCalendarDatesToTheNextOccurrence() {
+        assertEquals(LocalDate.of(2025, 8, 15), resolver.resolve("on Aug 15", MEETING));
+        assertEquals(LocalDate.of(2025, 9, 2), resolver.resolve("by Sept2", MEETING));
+        assertEquals(LocalDate.of(2026, 1, 5), resolver.resolve("by 1/5", MEETING));
+        assertNull(resolver.resolve("by 2/30", MEETING));
+        assertNull(resolver.resolve("by Sprint 3", MEETING));
+        assertNull(resolver.resolve("", MEETING));
+    }
+
+    @Test
+    void usesTheConfiguredZone() {
+        assertEquals(LocalDate.of(2025, 8, 15), new DueDateResolver(ZoneId.of("Asia/Tokyo")).resolve("by tomorrow", MEETING));
+    }
+}
@@ -0,0 +1,36 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class KeywordMatcherTests {
+
+    private final KeywordMatcher matcher = KeywordMatcher.builder()
+            .add(KeywordMatcher.Group.SUMMARY, List.of("plan", "deadline", "decision"))
+            .add(KeywordMatcher.Group.DECISION, List.of("decided", "decision", "agree"))
+            .add(KeywordMatcher.Group.TASK_CUE, List.of("test plan", "api", "doc"))
+            .build();
+
+    @Test
+    void countsDistinctSubstringHitsPerGroup() {
+        // "plan" twice still counts once; "documents" contains "doc"; "Agreed" contains "agree"
+        int[] hits = matcher.scan("The PLAN and the Test Plan documents: Agreed, DECISION made by the deadline.");
+        assertArrayEquals(new int[]{3, 2, 2}, hits);
+    }
+
+    @Test
+    void reportsOverlappingKeywordsInOnePass() {
+        // "decision" is in two groups and overlaps with "decided"-free text
+        assertArrayEquals(new int[]{1, 1, 0}, matcher.scan("final decision"));
+        assertArrayEquals(new int[]{0, 0, 1}, matcher.scan("rapid"));
+    }
+
+    @Test
+    void emptyInputHasNoHits() {
+        assertArrayEquals(new int[]{0, 0, 0}, matcher.scan(""));
+        assertArrayEquals(new int[]{0, 0, 0}, matcher.scan(null));
+    }
+}
@@ -0,0 +1,219 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * The regex-based action-item extraction that {@link ActionRules} replaced, kept verbatim as the
+ * regression oracle for it. Not used outside tests.
+ */
+class LegacyActionRules {
+
+    private static final Set<String> STOP_LEADS = Set.of(
+            "we","i","hi","hello","hey",
+            "today","tomorrow","yesterday",
+            "lets","let's","this","that","there","here","discussion",
+            "and","but","then","so","also","ok","okay",
+            // common verbs/nouns that get capitalized at sentence start
+            "want","needs","need","required","require","request","asks","ask","asking",
+            "assign","assigned","decide","decided","agree","agreed"
+    );
+
+    private static final String[] WEEKDAYS = {"monday","tuesday","wednesday","thursday","friday","saturday","sunday"};
+    private static final String[] MONTHS   = {"january","february","march","april","may","june","july","august","september","october","november","december"};
+
+    // ---- Action patterns ----
+    // NOTE: removed "|to" here to prevent "Want to" or "Need to" treating "Want"/"Need" as a name.
+    private static final Pattern NAME_WILL_VERB = Pattern.compile(
+            "\\b([A-Z][a-zA-Z]+)\\b\\s+(will|should|must)\\s+([a-z]+)\\b([^.]*)",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    // 2) "assign(ing/ed) <what> to <Name> ..."
+    private static final Pattern ASSIGNING_TO_NAME = Pattern.compile(
+            "\\bassign(?:ing|ed)?\\s+(.+?)\\s+to\\s+([A-Z][a-zA-Z]+)\\b([^.]*)",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    // 3) "I/We/Please ask/Ask/Need/Want <Name> to <verb> ..."
+    private static final Pattern WANT_NEED_ASK = Pattern.compile(
+            "\\b(?:I|We|Please\\s+ask|Ask|Asked|Request|Requested|Require|Required|Need|Needs|Want|Wants)\\b.*?\\b([A-Z][a-zA-Z]+)\\b\\s+to\\s+([a-z]+)\\b([^.]*)",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    // Due date hints
+    private static final Pattern DUE = Pattern.compile(
+            "\\b(by|before|on)\\s+([A-Za-z]+\\s?\\d{1,2}|\\d{1,2}/\\d{1,2}|tomorrow|today|next\\s+week|EOW|EOD)\\b",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    private boolean startsWithStopLead(String sentence) {
+        // Only the first token is lower-cased, not the whole sentence
+        String stripped = sentence.stripLeading();
+        int end = 0;
+        while (end < stripped.length() && !Character.isWhitespace(stripped.charAt(end))) end++;
+        return isStopWord(stripped.substring(0, end));
+    }
+
+    String extractActions(String s, int[] hits, String lastTaskContext, List<Map<String,String>> items) {
+        String sTrim = s == null ? "" : s.trim();
+        if (sTrim.isEmpty()) return lastTaskContext;
+
+        // Update context if this sentence names a task/work/project
+        if (hits[KeywordMatcher.Group.TASK_CUE.ordinal()] > 0) {
+            lastTaskContext = extractConciseContext(sTrim);
+        }
+
+        // 2) assigning … to <Name> …
+        Matcher mAssign = ASSIGNING_TO_NAME.matcher(sTrim);
+        if (mAssign.find()) {
+            String what = mAssign.group(1).trim();
+            String owner = cap(mAssign.group(2));
+            if (isStopWord(owner)) { /* skip bogus owners */ }
+            else {
+                String tail  = mAssign.group(3) != null ? mAssign.group(3).trim() : "";
+                String task  = ("take ownership of " + what + (tail.isEmpty() ? "" : " " + tail)).trim();
+                task = stripEndPunct(task);
+                task = resolvePronouns(task, lastTaskContext);
+
+                String dueDate = "";
+                Matcher d = DUE.matcher(sTrim);
+                if (d.find()) {
+                    dueDate = d.group(0);
+                }
+
+                items.add(makeItem(owner, task, dueDate));
+            }
+        }
+
+        // 3) I/We/Ask/Need/Want <Name> to <verb> …
+        Matcher mWant = WANT_NEED_ASK.matcher(sTrim);
+        if (mWant.find()) {
+            String owner = cap(mWant.group(1));
+            if (!isStopWord(owner)) {
+                String verb  = mWant.group(2).toLowerCase();
+                String rest  = mWant.group(3) != null ? mWant.group(3).trim() : "";
+                rest = sanitizeRest(rest, owner);
+                String task  = (verb + " " + rest).trim();
+                task = stripEndPunct(task);
+                task = resolvePronouns(task, lastTaskContext);
+
+                String dueDate = "";
+                Matcher d = DUE.matcher(sTrim);
+                if (d.find()) {
+                    dueDate = d.group(0);
+                }
+
+                items.add(makeItem(owner, task, dueDate));
+            }
+        }
+
+        // If the sentence starts with a stop-lead (e.g., "Today", "And"), skip owner-at-start heuristics
+        if (startsWithStopLead(sTrim)) {
+            return lastTaskContext;
+        }
+
+        // 1) <Name> will/should/must <verb> …
+        Matcher m1 = NAME_WILL_VERB.matcher(sTrim);
+        if (m1.find()) {
+            String owner = cap(m1.group(1));
+            if (!isStopWord(owner)) {
+                String verb  = m1.group(3).toLowerCase();
+                String rest  = m1.group(4) != null ? m1.group(4).trim() : "";
+                rest = sanitizeRest(rest, owner);
+                String task  = (verb + " " + rest).trim();
+                task = stripEndPunct(task);
+                task = resolvePronouns(task, lastTaskContext);
+
+                String dueDate = "";
+                Matcher d = DUE.matcher(sTrim);
+                if (d.find()) {
+                    dueDate = d.group(0);
+                }
+
+                items.add(makeItem(owner, task, dueDate));
+            }
+        }
+        return lastTaskContext;
+    }
+
+    // -------- helpers --------
+
+    /** Extract a concise phrase for context (e.g., "backend development work") from a longer sentence. */
+    private String extractConciseContext(String sentence) {
+        // Try to capture nouny phrase around common keywords
+        Pattern p = Pattern.compile("(?i)(backend|frontend|api|project|feature|task|work|development|migration)\\b([^.,;]*)");
+        Matcher m = p.matcher(sentence);
+        if (m.find()) {
+            String head = m.group(1);
+            String tail = m.group(2) != null ? m.group(2) : "";
+            String ctx  = (head + tail).replaceAll("\\b(we|i|have|has|some|the|our)\\b", "").replaceAll("\\s{2,}", " ").trim();
+            return ctx.isEmpty() ? (head + " " + tail).trim() : ctx;
+        }
+        // Fallback: last ~6 words
+        String[] toks = sentence.replaceAll("[.?!]", "").trim().split("\\s+");
+        int from = Math.max(0, toks.length - 6);
+        return String.join(" ", Arrays.copyOfRange(toks, from, toks.length)).trim();
+    }
+
+    /** Remove leading echoes/fillers from the captured rest-of-task. */
+    private String sanitizeRest(String rest, String owner) {
+        if (rest == null) return "";
+        String r = rest.trim();
+
+        // Strip leading conjunctions/fillers
+        r = r.replaceFirst("(?i)^(and|but|so|then|also)\\s+", "");
+
+        // Remove any accidental echo like "And I want Nelson to ..." or "I want <owner> to ..."
+        String ownerEsc = Pattern.quote(owner);
+        r = r.replaceFirst("(?i)^i\\s+want\\s+" + ownerEsc + "\\s+to\\s+[a-z]+\\b\\s*", "");
+        r = r.replaceFirst("(?i)^and\\s+i\\s+want\\s+" + ownerEsc + "\\s+to\\s+[a-z]+\\b\\s*", "");
+        r = r.replaceFirst("(?i)^we\\s+(need|want|ask|asked|request|requested|require|required)\\s+" + ownerEsc + "\\s+to\\s+[a-z]+\\b\\s*", "");
+        return r.trim();
+    }
+
+    private String resolvePronouns(String phrase, String context) {
+        if (phrase == null || phrase.isEmpty()) return phrase;
+        if (context == null || context.isEmpty()) return phrase;
+
+        String ctx = context;
+        String out = phrase
+                .replaceAll("(?i)\\bpick\\s+it\\s+up\\b", "pick up " + ctx)
+                .replaceAll("(?i)\\btake\\s+it\\s+up\\b", "take up " + ctx)
+                .replaceAll("(?i)\\bwork\\s+on\\s+it\\b", "work on " + ctx)
+                .replaceAll("(?i)\\bhandle\\s+it\\b", "handle " + ctx)
+                .replaceAll("(?i)\\bthis\\s+task\\b", ctx)
+                .replaceAll("(?i)\\bthis\\s+work\\b", ctx)
+                .replaceAll("(?i)\\bthe\\s+task\\b", ctx)
+                .replaceAll("(?i)\\bthe\\s+work\\b", ctx)
+                .replaceAll("(?i)\\bit\\b", ctx); // generic last
+        return out.replaceAll("\\s{2,}", " ").trim();
+    }
+
+    private String stripEndPunct(String s) {
+        return s == null ? "" : s.replaceAll("[.?!]+$", "").trim();
+    }
+
+    private Map<String,String> makeItem(String owner, String task, String due) {
+        Map<String,String> it = new LinkedHashMap<>();
+        it.put("owner", owner);
+        it.put("task", task);
+        it.put("due", (due == null) ? "" : due);
+        return it;
+    }
+
+    private boolean isStopWord(String token) {
+        if (token == null) return true;
+        String t = token.toLowerCase();
+        if (STOP_LEADS.contains(t)) return true;
+        for (String d : WEEKDAYS) if (t.equals(d)) return true;
+        for (String m : MONTHS)   if (t.equals(m))  return true;
+        return false;
+    }
+
+    private String cap(String s) {
+        if (s == null || s.isEmpty()) return s;
+        return s.substring(0,1).toUpperCase() + s.substring(1);
+    }
+}
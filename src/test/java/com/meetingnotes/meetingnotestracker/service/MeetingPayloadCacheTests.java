@@ -0,0 +1,55 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeetingPayloadCacheTests {
+
+    private static Optional<byte[]> json(String s) {
+        return Optional.of(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void servesRepeatReadsWithAStableETag() {
+        MeetingPayloadCache cache = new MeetingPayloadCache(1 << 20);
+        AtomicInteger loads = new AtomicInteger();
+        MeetingPayloadCache.Payload first = cache.get(1L, () -> { loads.incrementAndGet(); return json("{\"id\":1}"); }).orElseThrow();
+        MeetingPayloadCache.Payload again = cache.get(1L, () -> { loads.incrementAndGet(); return json("{\"id\":1}"); }).orElseThrow();
+
+        assertSame(first, again);
+        assertEquals(1, loads.get());
+        assertTrue(first.etag().startsWith("\"") && first.etag().endsWith("\""));
+        assertTrue(cache.get(2L, Optional::empty).isEmpty()); // missing meetings are not cached
+        assertEquals(1, cache.stats().get("entries"));
+    }
+
+    @Test
+    void evictionChangesTheETagAndBoundsTheSize() {
+        MeetingPayloadCache cache = new MeetingPayloadCache(8 * 1024);
+        String before = cache.get(1L, () -> json("{\"status\":\"OPEN\"}")).orElseThrow().etag();
+        cache.evict(1L);
+        String after = cache.get(1L, () -> json("{\"status\":\"DONE\"}")).orElseThrow().etag();
+        assertNotEquals(before, after);
+
+        String padding = "x".repeat(900);
+        for (long id = 10; id < 30; id++) cache.get(id, () -> json(padding));
+        assertTrue((long) cache.stats().get("bytes") <= 8 * 1024);
+        assertTrue((long) cache.stats().get("evictions") > 0);
+    }
+
+    @Test
+    void aLoadOverlappingAnEvictionIsNotStored() {
+        MeetingPayloadCache cache = new MeetingPayloadCache(1 << 20);
+        // the write commits (and evicts) while this read still holds the old row
+        cache.get(1L, () -> { cache.evict(1L); return json("{\"old\":true}"); });
+        AtomicInteger loads = new AtomicInteger();
+        cache.get(1L, () -> { loads.incrementAndGet(); return json("{\"old\":false}"); });
+        cache.get(1L, () -> { loads.incrementAndGet(); return json("{\"old\":false}"); });
+        assertEquals(1, loads.get()); // reloaded once after the overlap, then cached
+    }
+}
@@ -0,0 +1,56 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import com.meetingnotes.meetingnotestracker.model.Meeting;
+import com.meetingnotes.meetingnotestracker.model.Person;
+import com.meetingnotes.meetingnotestracker.repo.PersonRepo;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// fewer connections than concurrent saves: a save that needed a second connection would time out
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=" + PersonServiceTests.POOL,
+        "spring.datasource.hikari.connection-timeout=3000"})
+class PersonServiceTests {
+
+    static final int POOL = 2;
+    private static final int SAVES = 3 * POOL;
+
+    @Autowired MeetingService meetings;
+    @Autowired PersonRepo people;
+
+    @Test
+    void concurrentMeetingsWithTheSameNewAttendeeShareOnePerson() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(SAVES);
+        try {
+            for (int round = 0; round < 3; round++) {
+                String name = "Newcomer " + round;
+                List<Meeting> built = new ArrayList<>();
+                for (int i = 0; i < SAVES; i++) {
+                    built.add(meetings.build("Standup " + round + "-" + i, name + ", Guest " + round + "-" + i,
+                            "Guest " + round + "-" + i + " will update the runbook by Friday.", Instant.now()));
+                }
+                CyclicBarrier start = new CyclicBarrier(SAVES);
+                List<Future<List<Meeting>>> saves = built.stream().map(m -> pool.submit(() -> {
+                    start.await();
+                    return meetings.persist(List.of(m));
+                })).toList();
+                for (Future<List<Meeting>> f : saves) assertEquals(1, f.get(30, TimeUnit.SECONDS).size());
+
+                Person p = people.findByNormalizedName(Person.normalize(name)).orElseThrow();
+                for (Meeting m : built) {
+                    assertTrue(m.getAttendeePeople().stream().anyMatch(a -> a.getId().equals(p.getId())));
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimilarityIndexServiceTests {
+
+    private static final String BASE = "Quarterly roadmap review. Priya presented the billing migration timeline, "
+            + "the invoicing service rollout and the database upgrade. Marco raised capacity planning for the "
+            + "holiday traffic peak and asked about load balancer certificates. We agreed the migration starts "
+            + "Monday and the dashboard redesign waits until after the audit.";
+
+    @Test
+    void signaturesEstimateTermOverlap() {
+        int[] a = SimilarityIndexService.signature(BASE, 128);
+        int[] same = SimilarityIndexService.signature(BASE.toUpperCase() + " the and of", 128); // case and stopwords ignored
+        int[] near = SimilarityIndexService.signature(BASE.replace("holiday", "summer").replace("audit", "review"), 128);
+        int[] other = SimilarityIndexService.signature("Lunch order: pizza, salad, sparkling water and cookies for the "
+                + "offsite picnic, plus parking passes for visitors.", 128);
+
+        assertArrayEquals(a, same);
+        assertTrue(SimilarityIndexService.estimate(a, near) > 0.75);
+        assertTrue(SimilarityIndexService.estimate(a, other) < 0.15);
+        assertNull(SimilarityIndexService.signature("um, ok, so the", 128));
+        assertArrayEquals(a, SimilarityIndexService.decode(SimilarityIndexService.encode(a)));
+    }
+
+    @Test
+    void nearDuplicatesShareBucketsAndBandsDoNotCollide() {
+        int[] a = SimilarityIndexService.signature(BASE, 128);
+        int[] near = SimilarityIndexService.signature(BASE.replace("holiday", "summer"), 128);
+        long[] ka = SimilarityIndexService.bucketKeys(a, 32, 4);
+        long[] kn = SimilarityIndexService.bucketKeys(near, 32, 4);
+
+        long sharedBands = IntStream.range(0, 32).filter(b -> ka[b] == kn[b]).count();
+        assertTrue(sharedBands > 0);
+        // the band number is part of the key, so equal rows in different bands are different buckets
+        assertEquals(32, Arrays.stream(ka).map(k -> k >>> 32).distinct().count());
+    }
+}
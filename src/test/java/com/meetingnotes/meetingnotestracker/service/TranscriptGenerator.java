@@ -0,0 +1,46 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import java.util.Random;
+
+/**
+ * Deterministic synthetic meeting transcripts for benchmarks and load tests.
+ * Mixes owner/verb/due-date sentences with filler chatter at roughly the density of real standups.
+ */
+public final class TranscriptGenerator {
+
+    private static final String[] NAMES = {"Alice","Bob","Nelson","Priya","Omar","Chen","Maria","Jonas","Fatima","Diego"};
+    private static final String[] VERBS = {"review","update","ship","draft","fix","write","pick","handle","test","deploy"};
+    private static final String[] OBJECTS = {"the backend development work","the api spec","it","this task","the migration plan",
+            "the dashboard for the KPI review","the deployment pipeline","the onboarding docs","the work","the schema change"};
+    private static final String[] DUE = {"",""," by Friday"," before EOW"," on Aug 15"," by 8/15"," by tomorrow"," by EOD"};
+    private static final String[] FILLER = {
+            "Hello everyone, thanks for joining",
+            "Let's go over what happened since last week",
+            "The customer call went fine and they liked the demo",
+            "Okay, moving on to the next item on the agenda",
+            "There was some back and forth about the timeline and the risk to the milestone",
+            "We decided to keep the current scope and finalize the release plan",
+            "So that is mostly it from my side"};
+
+    private TranscriptGenerator() {}
+
+    /** Builds a transcript of roughly {@code targetChars} characters from a fixed seed. */
+    public static String generate(int targetChars, long seed) {
+        Random r = new Random(seed);
+        StringBuilder sb = new StringBuilder(targetChars + 256);
+        while (sb.length() < targetChars) {
+            String name = NAMES[r.nextInt(NAMES.length)];
+            String verb = VERBS[r.nextInt(VERBS.length)];
+            String obj = OBJECTS[r.nextInt(OBJECTS.length)];
+            String due = DUE[r.nextInt(DUE.length)];
+            switch (r.nextInt(6)) {
+                case 0 -> sb.append(name).append(" will ").append(verb).append(' ').append(obj).append(due);
+                case 1 -> sb.append("We are assigning ").append(obj).append(" to ").append(name).append(due);
+                case 2 -> sb.append("I want ").append(name).append(" to ").append(verb).append(' ').append(obj).append(due);
+                default -> sb.append(FILLER[r.nextInt(FILLER.length)]);
+            }
+            sb.append(r.nextInt(8) == 0 ? "? " : ". ");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,103 @@
+package com.meetingnotes.meetingnotestracker.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.zip.CRC32C;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UploadServiceTests {
+
+    @TempDir Path spool;
+
+    private UploadService service() {
+        return new UploadService(null, spool.toString(), 1024, Duration.ofHours(1)); // transcription is not exercised
+    }
+
+    private static ReadableByteChannel body(byte[] bytes) {
+        return Channels.newChannel(new ByteArrayInputStream(bytes));
+    }
+
+    private static String crc(byte[] bytes) {
+        CRC32C c = new CRC32C();
+        c.update(bytes);
+        return String.format("%08x", c.getValue());
+    }
+
+    @Test
+    void chunksAppendAtTheCommittedOffsetOnly() throws IOException {
+        UploadService uploads = service();
+        byte[] first = "first chunk,".getBytes(StandardCharsets.UTF_8);
+        byte[] second = "second chunk".getBytes(StandardCharsets.UTF_8);
+        UploadService.Upload u = uploads.create("call.wav", first.length + second.length);
+
+        assertEquals(first.length, uploads.append(u, 0, crc(first), body(first)));
+        // a retried chunk for an offset that is already past is a conflict that reports where to resume
+        UploadService.ChunkRejected stale = assertThrows(UploadService.ChunkRejected.class,
+                () -> uploads.append(u, 0, crc(first), body(first)));
+        assertTrue(stale.conflict());
+        assertEquals(first.length, stale.offset());
+
+        assertEquals(first.length + second.length, uploads.append(u, stale.offset(), crc(second), body(second)));
+        assertEquals("first chunk,second chunk", Files.readString(u.file()));
+    }
+
+    @Test
+    void badChecksumCutsTheFileBackToTheChunkStart() throws IOException {
+        UploadService uploads = service();
+        byte[] good = "good".getBytes(StandardCharsets.UTF_8);
+        byte[] bad = "corrupted in transit".getBytes(StandardCharsets.UTF_8);
+        UploadService.Upload u = uploads.create("call.wav", -1);
+        uploads.append(u, 0, crc(good), body(good));
+
+        UploadService.ChunkRejected e = assertThrows(UploadService.ChunkRejected.class,
+                () -> uploads.append(u, good.length, crc(good), body(bad)));
+        assertFalse(e.conflict());
+        assertEquals(good.length, e.offset());
+        assertEquals(good.length, uploads.offset(u));
+        assertEquals("good", Files.readString(u.file()));
+    }
+
+    @Test
+    void unfinishedUploadsAreRecoveredAfterARestart() throws IOException {
+        byte[] chunk = "before restart".getBytes(StandardCharsets.UTF_8);
+        UploadService before = service();
+        UploadService.Upload u = before.create("standup.wav", 100);
+        before.append(u, 0, crc(chunk), body(chunk));
+
+        UploadService after = service();
+        after.recover();
+        UploadService.Upload recovered = after.find(u.id()).orElseThrow();
+        assertEquals("standup.wav", recovered.fileName());
+        assertEquals(100, recovered.expectedSize());
+        assertEquals(chunk.length, after.offset(recovered));
+    }
+
+    @Test
+    void recoverySweepsFilesLeftByACrashDuringCompletion() throws IOException {
+        UploadService before = service();
+        UploadService.Upload kept = before.create("kept.wav", -1);
+        UploadService.Upload moved = before.create("moved.wav", -1);
+        // crashed after the data was handed to transcription, before the metadata was removed
+        Files.move(moved.file(), spool.resolve(moved.id() + ".job"));
+        // data whose metadata is gone
+        Files.writeString(spool.resolve("orphan.part"), "lost");
+
+        UploadService after = service();
+        after.recover();
+        assertTrue(after.find(kept.id()).isPresent());
+        assertTrue(after.find(moved.id()).isEmpty());
+        try (var left = Files.list(spool)) {
+            assertEquals(2, left.count(), "only the kept upload's data and metadata remain");
+        }
+    }
+}